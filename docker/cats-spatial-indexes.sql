@@ -0,0 +1,27 @@
+-- MeowTown 고양이 공간 인덱스
+-- cats 테이블은 Hibernate가 만들므로 init-db.sql이 아니라 스키마 생성 후에 실행한다.
+-- 모든 조회가 is_active = true 조건을 걸기 때문에 인덱스도 활성 고양이만 담는다 (부분 인덱스).
+
+-- 반경 조회(ST_DWithin) / 거리순 정렬(<->) - CatRepository 쿼리의 geography 캐스팅과 같은 식이어야 한다
+CREATE INDEX IF NOT EXISTS idx_cats_coordinates_geog
+    ON cats USING GIST ((coordinates::geography))
+    WHERE is_active = true;
+
+-- 지도 영역 조회(&& ST_MakeEnvelope)
+CREATE INDEX IF NOT EXISTS idx_cats_coordinates
+    ON cats USING GIST (coordinates)
+    WHERE is_active = true;
+
+-- 최신순 목록 (findByIsActiveTrue + createdAt 정렬)
+CREATE INDEX IF NOT EXISTS idx_cats_active_created_at
+    ON cats (created_at DESC)
+    WHERE is_active = true;
+
+ANALYZE cats;
+
+-- 확인: 두 쿼리 모두 Index Scan using idx_cats_coordinates_geog 가 나와야 한다
+-- EXPLAIN ANALYZE SELECT c.* FROM cats c WHERE c.is_active = true
+--   AND ST_DWithin(c.coordinates::geography, ST_SetSRID(ST_MakePoint(126.978, 37.5665), 4326)::geography, 1000);
+-- EXPLAIN ANALYZE SELECT c.* FROM cats c WHERE c.is_active = true
+--   AND ST_DWithin(c.coordinates::geography, ST_SetSRID(ST_MakePoint(126.978, 37.5665), 4326)::geography, 1000)
+--   ORDER BY c.coordinates::geography <-> ST_SetSRID(ST_MakePoint(126.978, 37.5665), 4326)::geography LIMIT 20;
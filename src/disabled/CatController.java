@@ -13,8 +13,8 @@ import com.meowtown.dto.response.cat.CatResponseDto;
 import com.meowtown.entity.enums.Gender;
 import com.meowtown.entity.enums.LikeTargetType;
 import com.meowtown.entity.Like;
-import com.meowtown.entity.User;
 import com.meowtown.repository.LikeRepository;
+import com.meowtown.security.CurrentUserResolver;
 import com.meowtown.infrastructure.adapter.out.persistence.UserRepository;
 import com.meowtown.application.port.out.CatRepository;
 import org.springframework.data.domain.PageRequest;
@@ -29,6 +29,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -47,19 +48,22 @@ public class CatController {
     private final CatRepository catRepository;
     private final LikeRepository likeRepository;
     private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     
     public CatController(CreateCatUseCase createCatUseCase,
                         FindCatUseCase findCatUseCase,
                         CatMapper catMapper,
                         CatRepository catRepository,
                         LikeRepository likeRepository,
-                        UserRepository userRepository) {
+                        UserRepository userRepository,
+                        CurrentUserResolver currentUserResolver) {
         this.createCatUseCase = createCatUseCase;
         this.findCatUseCase = findCatUseCase;
         this.catMapper = catMapper;
         this.catRepository = catRepository;
         this.likeRepository = likeRepository;
         this.userRepository = userRepository;
+        this.currentUserResolver = currentUserResolver;
     }
     
     /**
@@ -110,11 +114,12 @@ public class CatController {
         
         return findCatUseCase.findCatById(id)
                 .map(cat -> {
-                    UUID userId = getOrCreateDefaultUser();
                     UUID catUuid = cat.getId().getValue();
                     Long likeCountLong = likeRepository.countByTargetTypeAndTargetId(LikeTargetType.CAT, catUuid);
                     int likeCount = likeCountLong != null ? likeCountLong.intValue() : 0;
-                    boolean isLiked = likeRepository.existsByUserIdAndTargetTypeAndTargetId(userId, LikeTargetType.CAT, catUuid);
+                    boolean isLiked = currentUserResolver.currentUserId()
+                        .map(userId -> likeRepository.existsByUserIdAndTargetTypeAndTargetId(userId, LikeTargetType.CAT, catUuid))
+                        .orElse(false);
                     return ResponseEntity.ok(ApiResponse.success(catMapper.toResponse(cat, likeCount, isLiked)));
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -146,16 +151,7 @@ public class CatController {
         List<Cat> cats = findCatUseCase.findCats(query);
         
         // 사용자별 좋아요 상태를 포함한 DTO 변환
-        UUID userId = getOrCreateDefaultUser();
-        List<CatResponseDto> response = cats.stream()
-            .map(cat -> {
-                UUID catId = cat.getId().getValue();
-                Long likeCountLong = likeRepository.countByTargetTypeAndTargetId(LikeTargetType.CAT, catId);
-                int likeCount = likeCountLong != null ? likeCountLong.intValue() : 0;
-                boolean isLiked = likeRepository.existsByUserIdAndTargetTypeAndTargetId(userId, LikeTargetType.CAT, catId);
-                return catMapper.toResponse(cat, likeCount, isLiked);
-            })
-            .toList();
+        List<CatResponseDto> response = toResponses(cats);
         
         return ResponseEntity.ok(ApiResponse.success(response, 
             String.format("%d마리의 고양이를 찾았습니다.", response.size())));
@@ -177,16 +173,7 @@ public class CatController {
         List<Cat> nearbyCats = findCatUseCase.findNearbyCats(center, radius, limit);
         
         // 사용자별 좋아요 상태를 포함한 DTO 변환
-        UUID userId = getOrCreateDefaultUser();
-        List<CatResponseDto> response = nearbyCats.stream()
-            .map(cat -> {
-                UUID catId = cat.getId().getValue();
-                Long likeCountLong = likeRepository.countByTargetTypeAndTargetId(LikeTargetType.CAT, catId);
-                int likeCount = likeCountLong != null ? likeCountLong.intValue() : 0;
-                boolean isLiked = likeRepository.existsByUserIdAndTargetTypeAndTargetId(userId, LikeTargetType.CAT, catId);
-                return catMapper.toResponse(cat, likeCount, isLiked);
-            })
-            .toList();
+        List<CatResponseDto> response = toResponses(nearbyCats);
         
         return ResponseEntity.ok(ApiResponse.success(response,
             String.format("반경 %.0fm 내에서 %d마리의 고양이를 찾았습니다.", radius, response.size())));
@@ -209,16 +196,7 @@ public class CatController {
         List<Cat> cats = findCatUseCase.findCats(searchQuery);
         
         // 사용자별 좋아요 상태를 포함한 DTO 변환
-        UUID userId = getOrCreateDefaultUser();
-        List<CatResponseDto> response = cats.stream()
-            .map(cat -> {
-                UUID catId = cat.getId().getValue();
-                Long likeCountLong = likeRepository.countByTargetTypeAndTargetId(LikeTargetType.CAT, catId);
-                int likeCount = likeCountLong != null ? likeCountLong.intValue() : 0;
-                boolean isLiked = likeRepository.existsByUserIdAndTargetTypeAndTargetId(userId, LikeTargetType.CAT, catId);
-                return catMapper.toResponse(cat, likeCount, isLiked);
-            })
-            .toList();
+        List<CatResponseDto> response = toResponses(cats);
         
         return ResponseEntity.ok(ApiResponse.success(response,
             String.format("'%s'로 검색된 %d마리의 고양이를 찾았습니다.", query, response.size())));
@@ -234,8 +212,12 @@ public class CatController {
         try {
             UUID catUuid = UUID.fromString(catId);
             
-            // 임시로 기본 사용자 사용 (실제로는 JWT에서 추출)
-            UUID userId = getOrCreateDefaultUser();
+            // JWT 사용자 (캐시에서 UUID로 변환)
+            Optional<UUID> currentUserId = currentUserResolver.currentUserId();
+            if (currentUserId.isEmpty()) {
+                return ResponseEntity.status(401).body(ApiResponse.error("로그인이 필요합니다."));
+            }
+            UUID userId = currentUserId.get();
             
             // 기존 좋아요 확인
             Optional<Like> existingLike = likeRepository.findByUserIdAndTargetTypeAndTargetId(
@@ -249,12 +231,9 @@ public class CatController {
                 likeRepository.delete(existingLike.get());
                 isLiked = false;
             } else {
-                // 좋아요 추가
-                User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-                
+                // 좋아요 추가 (사용자는 FK만 필요하므로 조회 없이 참조만 사용)
                 Like newLike = Like.builder()
-                    .user(user)
+                    .user(userRepository.getReferenceById(userId))
                     .targetType(LikeTargetType.CAT)
                     .targetId(catUuid)
                     .build();
@@ -283,22 +262,22 @@ public class CatController {
     }
     
     /**
-     * 임시로 기본 사용자 ID 반환 (실제로는 JWT에서 추출)
+     * 목록 DTO 변환 - 좋아요 수/여부는 고양이 수와 무관하게 쿼리 2번으로 한꺼번에 조회
      */
-    private UUID getOrCreateDefaultUser() {
-        // 기본 사용자가 없으면 생성
-        return userRepository.findAll().stream()
-            .findFirst()
-            .map(User::getId)
-            .orElseGet(() -> {
-                User defaultUser = User.builder()
-                    .username("guest")
-                    .email("guest@example.com")
-                    .displayName("게스트")
-                    .passwordHash("temp") // 필수 필드
-                    .build();
-                return userRepository.save(defaultUser).getId();
-            });
+    private List<CatResponseDto> toResponses(List<Cat> cats) {
+        if (cats.isEmpty()) {
+            return List.of();
+        }
+        UUID userId = currentUserResolver.currentUserId().orElse(null);
+        List<UUID> catIds = cats.stream().map(cat -> cat.getId().getValue()).toList();
+        Map<UUID, LikeRepository.LikeStats> likeStats = likeRepository.findLikeStats(LikeTargetType.CAT, catIds, userId);
+        
+        return cats.stream()
+            .map(cat -> {
+                LikeRepository.LikeStats stats = likeStats.getOrDefault(cat.getId().getValue(), LikeRepository.LikeStats.NONE);
+                return catMapper.toResponse(cat, (int) stats.count(), stats.liked());
+            })
+            .toList();
     }
     
     /**
@@ -2,7 +2,6 @@ package com.meowtown.repository;
 
 import com.meowtown.entity.Cat;
 import com.meowtown.entity.enums.Gender;
-import org.locationtech.jts.geom.Point;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -29,16 +28,32 @@ public interface CatRepository extends JpaRepository<Cat, UUID>, JpaSpecificatio
     @Query("SELECT c FROM Cat c WHERE c.isActive = true AND c.name LIKE %:name%")
     Page<Cat> findByNameContainingIgnoreCaseAndIsActiveTrue(@Param("name") String name, Pageable pageable);
     
-    // PostGIS 쿼리는 나중에 구현
-    // @Query("SELECT c FROM Cat c WHERE c.isActive = true AND " +
-    //        "ST_DWithin(c.coordinates, ST_GeomFromText(:point, 4326), :radiusInMeters) = true")
-    // List<Cat> findCatsWithinRadius(@Param("point") String point, @Param("radiusInMeters") double radiusInMeters);
-    
-    // @Query("SELECT c FROM Cat c WHERE c.isActive = true AND " +
-    //        "ST_Within(c.coordinates, ST_MakeEnvelope(:minLng, :minLat, :maxLng, :maxLat, 4326)) = true")
-    // List<Cat> findCatsWithinBounds(@Param("minLng") double minLng, @Param("minLat") double minLat,
-    //                                @Param("maxLng") double maxLng, @Param("maxLat") double maxLat);
-    
+    /*
+     * 공간 쿼리 - 인덱스는 docker/cats-spatial-indexes.sql 참고
+     * 거리 조건은 geography로 캐스팅해 미터 단위로 계산하고, 인덱스도 같은 식(coordinates::geography)으로 만들어야 탄다.
+     * (네이티브 쿼리의 :: 는 파라미터 구문과 헷갈리므로 CAST로 쓴다)
+     * 좌표는 (경도, 위도) 순서의 EPSG:4326 점이다.
+     */
+
+    /**
+     * 반경 내 활성 고양이 (순서 없음)
+     */
+    @Query(value = "SELECT c.* FROM cats c WHERE c.is_active = true AND " +
+           "ST_DWithin(CAST(c.coordinates AS geography), CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography), :radiusInMeters)",
+           nativeQuery = true)
+    List<Cat> findCatsWithinRadius(@Param("lat") double lat, @Param("lng") double lng,
+                                   @Param("radiusInMeters") double radiusInMeters);
+
+    /**
+     * 지도 화면 영역 내 활성 고양이 - 점 데이터라 bbox 교차(&&)가 곧 포함 여부다
+     */
+    @Query(value = "SELECT c.* FROM cats c WHERE c.is_active = true AND " +
+           "c.coordinates && ST_MakeEnvelope(:minLng, :minLat, :maxLng, :maxLat, 4326) LIMIT :limit",
+           nativeQuery = true)
+    List<Cat> findCatsWithinBounds(@Param("minLng") double minLng, @Param("minLat") double minLat,
+                                   @Param("maxLng") double maxLng, @Param("maxLat") double maxLat,
+                                   @Param("limit") int limit);
+
     @Query("SELECT c FROM Cat c JOIN c.characteristics ch WHERE c.isActive = true AND " +
            "ch.characteristic IN :characteristics")
     Page<Cat> findByCharacteristicsIn(@Param("characteristics") List<String> characteristics, Pageable pageable);
@@ -57,18 +72,17 @@ public interface CatRepository extends JpaRepository<Cat, UUID>, JpaSpecificatio
     // Hexagonal Architecture를 위한 추가 메서드들
     List<Cat> findByNameContainingIgnoreCase(String name);
     
-    // PostGIS 쿼리는 나중에 구현
-    // @Query("SELECT c FROM Cat c WHERE c.isActive = true AND " +
-    //        "ST_DWithin(c.coordinates, :centerPoint, :radiusInMeters) = true ORDER BY " +
-    //        "ST_Distance(c.coordinates, :centerPoint)")
-    // List<Cat> findNearbyActiveCats(@Param("centerPoint") Point centerPoint, 
-    //                                @Param("radiusInMeters") double radiusInMeters, 
-    //                                Pageable pageable);
-    
-    // @Query("SELECT c FROM Cat c WHERE " +
-    //        "ST_DWithin(c.coordinates, :centerPoint, :radiusInMeters) = true")
-    // List<Cat> findByLocationNear(@Param("centerPoint") Point centerPoint, 
-    //                             @Param("radiusInMeters") double radiusInMeters);
+    /**
+     * 반경 내 활성 고양이를 가까운 순으로 limit개
+     * 정렬은 KNN(<->) 연산자로 인덱스를 거리순으로 읽으므로 반경 내 전체를 정렬하지 않고 limit개에서 멈춘다.
+     */
+    @Query(value = "SELECT c.* FROM cats c WHERE c.is_active = true AND " +
+           "ST_DWithin(CAST(c.coordinates AS geography), CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography), :radiusInMeters) " +
+           "ORDER BY CAST(c.coordinates AS geography) <-> CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography) LIMIT :limit",
+           nativeQuery = true)
+    List<Cat> findNearbyActiveCats(@Param("lat") double lat, @Param("lng") double lng,
+                                   @Param("radiusInMeters") double radiusInMeters,
+                                   @Param("limit") int limit);
     
     long countByIsActiveTrue();
 }
\ No newline at end of file
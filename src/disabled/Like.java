@@ -9,6 +9,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "likes", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"user_id", "target_type", "target_id"})
+}, indexes = {
+    @Index(name = "idx_likes_target", columnList = "target_type, target_id") // 대상별 좋아요 수 집계
 })
 @Getter
 @Setter
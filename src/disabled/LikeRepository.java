@@ -7,8 +7,11 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -30,5 +33,36 @@ public interface LikeRepository extends JpaRepository<Like, UUID> {
     List<Object[]> countLikesForTargets(@Param("targetType") LikeTargetType targetType, 
                                        @Param("targetIds") List<UUID> targetIds);
     
+    /**
+     * targetIds 중 사용자가 좋아요한 대상 (unique(user_id, target_type, target_id) 인덱스로 조회)
+     */
+    @Query("SELECT l.targetId FROM Like l WHERE l.user.id = :userId AND l.targetType = :targetType " +
+           "AND l.targetId IN :targetIds")
+    Set<UUID> findLikedTargetIds(@Param("userId") UUID userId,
+                                 @Param("targetType") LikeTargetType targetType,
+                                 @Param("targetIds") List<UUID> targetIds);
+    
+    /**
+     * 목록 응답용 좋아요 수/여부를 대상 수와 무관하게 쿼리 2번으로 조회
+     * 좋아요가 없는 대상은 결과에 없으므로 LikeStats.NONE을 기본값으로 사용한다.
+     */
+    default Map<UUID, LikeStats> findLikeStats(LikeTargetType targetType, List<UUID> targetIds, UUID userId) {
+        if (targetIds.isEmpty()) {
+            return Map.of();
+        }
+        Set<UUID> liked = userId != null ? findLikedTargetIds(userId, targetType, targetIds) : Set.of();
+        Map<UUID, LikeStats> stats = new HashMap<>();
+        for (Object[] row : countLikesForTargets(targetType, targetIds)) {
+            UUID targetId = (UUID) row[0];
+            stats.put(targetId, new LikeStats(((Number) row[1]).longValue(), liked.contains(targetId)));
+        }
+        return stats;
+    }
+    
     List<Like> findByUserId(UUID userId);
+    
+    record LikeStats(long count, boolean liked) {
+        
+        public static final LikeStats NONE = new LikeStats(0, false);
+    }
 }
\ No newline at end of file
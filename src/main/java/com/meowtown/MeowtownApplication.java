@@ -2,8 +2,10 @@ package com.meowtown;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class MeowtownApplication {
     public static void main(String[] args) {
         SpringApplication.run(MeowtownApplication.class, args);
@@ -7,41 +7,68 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * 공통 응답 envelope
+ * HTTP 응답으로 쓸 때는 ApiResponseHttpMessageConverter가 고정 부분을 미리 인코딩된 바이트로 쓰고
+ * data만 Jackson으로 직렬화한다. 필드 순서/생략 규칙은 Jackson 기본 직렬화 결과와 같다.
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ApiResponse<T> {
-    
+
+    private static final String DEFAULT_MESSAGE = "요청이 성공적으로 처리되었습니다";
+
     private boolean success;
     private T data;
+    private String nextCursor;
     private String message;
+    private ErrorResponse.ErrorDetail error;
     private LocalDateTime timestamp;
-    
+
     public ApiResponse(boolean success, T data, String message) {
         this.success = success;
         this.data = data;
         this.message = message;
-        this.timestamp = LocalDateTime.now();
+        this.timestamp = CachedClock.now();
     }
-    
+
     public static <T> ApiResponse<T> success(T data) {
-        return new ApiResponse<>(true, data, "요청이 성공적으로 처리되었습니다");
+        return new ApiResponse<>(true, data, DEFAULT_MESSAGE);
     }
-    
+
     public static <T> ApiResponse<T> success(T data, String message) {
         return new ApiResponse<>(true, data, message);
     }
-    
+
     public static <T> ApiResponse<T> success() {
-        return new ApiResponse<>(true, null, "요청이 성공적으로 처리되었습니다");
+        return new ApiResponse<>(true, null, DEFAULT_MESSAGE);
     }
-    
+
     public static <T> ApiResponse<T> success(String message) {
         return new ApiResponse<>(true, null, message);
     }
-    
+
+    /**
+     * 커서 페이지 응답 - 마지막 페이지면 nextCursor는 null(생략)
+     */
+    public static <T> ApiResponse<T> page(T data, String nextCursor, String message) {
+        ApiResponse<T> response = new ApiResponse<>(true, data, message);
+        response.nextCursor = nextCursor;
+        return response;
+    }
+
     public static <T> ApiResponse<T> error(String message) {
         return new ApiResponse<>(false, null, message);
     }
-}
\ No newline at end of file
+
+    /**
+     * 코드가 있는 실패 응답 ({"success":false,"error":{"code":..,"message":..}})
+     */
+    public static <T> ApiResponse<T> failure(String code, String message) {
+        ApiResponse<T> response = new ApiResponse<>(false, null, null);
+        response.error = new ErrorResponse.ErrorDetail(code, message, null, null);
+        return response;
+    }
+}
@@ -0,0 +1,114 @@
+package com.meowtown.common;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * ApiResponse 전용 JSON 쓰기
+ * envelope의 키는 미리 인코딩해 둔 SerializedString으로 바로 쓰고, data/error만 미리 만들어 둔 ObjectWriter로 직렬화한다.
+ * 메시지 문자열은 인코딩 결과를 크기 제한 캐시에 두고(자주 쓰이는 고정 메시지가 남고 개수가 들어간 일회성 메시지는 밀려난다),
+ * timestamp는 CachedClock이 밀리초마다 만든 값을 그대로 쓴다.
+ * 결과는 ObjectMapper로 ApiResponse를 직렬화한 것과 같다 (필드 순서, null 필드 생략).
+ */
+public class ApiResponseHttpMessageConverter extends AbstractHttpMessageConverter<ApiResponse<?>> {
+
+    private static final int MAX_CACHED_MESSAGES = 1024;
+
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString NEXT_CURSOR = new SerializedString("nextCursor");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+
+    private final ObjectWriter valueWriter;
+    // W-TinyLFU 정책이라 한 번 쓰이고 마는 메시지는 자주 쓰이는 메시지를 밀어내지 못한다
+    private final Cache<String, SerializedString> encodedMessages = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_MESSAGES)
+            .build();
+
+    public ApiResponseHttpMessageConverter(ObjectMapper objectMapper) {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON);
+        // 응답 스트림은 닫거나 flush하지 않는다 (서블릿 버퍼에 이어 쓰기)
+        this.valueWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ApiResponse<?> readInternal(Class<? extends ApiResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ApiResponse는 응답 전용입니다.", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(ApiResponse<?> response, HttpOutputMessage outputMessage) throws IOException {
+        // 생성기 하나의 버퍼에 모두 쓰고 close 시 한 번에 스트림으로 내보낸다
+        try (JsonGenerator generator = valueWriter.createGenerator(outputMessage.getBody(), JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeFieldName(SUCCESS);
+            generator.writeBoolean(response.isSuccess());
+            if (response.getData() != null) {
+                generator.writeFieldName(DATA);
+                valueWriter.writeValue(generator, response.getData());
+            }
+            if (response.getNextCursor() != null) {
+                generator.writeFieldName(NEXT_CURSOR);
+                generator.writeString(response.getNextCursor());
+            }
+            if (response.getMessage() != null) {
+                generator.writeFieldName(MESSAGE);
+                generator.writeString(encodedMessage(response.getMessage()));
+            }
+            if (response.getError() != null) {
+                generator.writeFieldName(ERROR);
+                valueWriter.writeValue(generator, response.getError());
+            }
+            if (response.getTimestamp() != null) {
+                generator.writeFieldName(TIMESTAMP);
+                writeTimestamp(generator, response.getTimestamp());
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private SerializedString encodedMessage(String message) {
+        return encodedMessages.get(message, SerializedString::new);
+    }
+
+    private static void writeTimestamp(JsonGenerator generator, LocalDateTime timestamp) throws IOException {
+        CachedClock.Tick tick = CachedClock.current();
+        if (tick.dateTime() == timestamp) {
+            generator.writeString(tick.json());
+        } else {
+            // 생성 후 밀리초가 지났거나 CachedClock 밖에서 만든 값
+            generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.meowtown.common;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 응답 timestamp용 밀리초 단위 시계
+ * 같은 밀리초 안의 요청은 LocalDateTime과 인코딩된 JSON 문자열을 새로 만들지 않고 공유한다.
+ * 별도 스레드 없이, 읽을 때 밀리초가 바뀌었으면 그때 한 번만 갱신한다.
+ */
+public final class CachedClock {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private static volatile Tick tick = Tick.of(System.currentTimeMillis());
+
+    private CachedClock() {
+    }
+
+    public static LocalDateTime now() {
+        return current().dateTime();
+    }
+
+    /**
+     * 현재 밀리초의 시각 - 같은 밀리초 안에서는 같은 인스턴스
+     */
+    static Tick current() {
+        long millis = System.currentTimeMillis();
+        Tick current = tick;
+        if (current.millis() != millis) {
+            // 경쟁 시 같은 값을 두 번 만들 수 있지만 결과는 동일하므로 락을 걸지 않는다
+            current = Tick.of(millis);
+            tick = current;
+        }
+        return current;
+    }
+
+    /**
+     * @param json Jackson 기본 LocalDateTime 직렬화(ISO_LOCAL_DATE_TIME)와 같은 문자열 (인코딩 결과는 SerializedString이 보관)
+     */
+    record Tick(long millis, LocalDateTime dateTime, SerializedString json) {
+
+        static Tick of(long millis) {
+            LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+            return new Tick(millis, dateTime, new SerializedString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime)));
+        }
+    }
+}
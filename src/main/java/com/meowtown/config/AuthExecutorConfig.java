@@ -0,0 +1,46 @@
+package com.meowtown.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 인증 처리용 스레드 풀
+ * passwordHashExecutor: 비밀번호 해시 전용. 해시 계산을 요청 스레드 밖에서 제한된 수의 스레드로만 수행해,
+ * 로그인이 몰려도 다른 요청을 처리할 스레드가 남게 한다.
+ * 대기열이 가득 차면 RejectedExecutionException으로 거절한다(PasswordHashingService가 429로 변환).
+ * authTaskExecutor: 해시 이후의 사용자 저장/조회, 리프레시 토큰 저장, JWT 서명. DB 지연이 해시 스레드를 붙잡지 않게 분리한다.
+ */
+@Configuration
+public class AuthExecutorConfig {
+
+    @Bean(name = "passwordHashExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${auth.password-hash.threads:0}") int threads,
+            @Value("${auth.password-hash.queue-capacity:200}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "authTaskExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor authTaskExecutor(
+            @Value("${auth.tasks.threads:${spring.datasource.hikari.maximum-pool-size:10}}") int threads) {
+        // 들어오는 작업은 이미 해시 풀의 처리량으로 제한되므로 대기열은 제한하지 않는다
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("auth-task-");
+        executor.initialize();
+        return executor;
+    }
+}
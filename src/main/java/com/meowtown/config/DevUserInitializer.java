@@ -0,0 +1,37 @@
+package com.meowtown.config;
+
+import com.meowtown.entity.User;
+import com.meowtown.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 개발용 테스트 계정(testuser / test123) 생성 - 운영 프로필에서는 생성하지 않음
+ */
+@Slf4j
+@Component
+@Profile("!prod")
+@RequiredArgsConstructor
+public class DevUserInitializer implements CommandLineRunner {
+    
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    
+    @Override
+    public void run(String... args) {
+        if (userRepository.existsByUsername("testuser")) {
+            return;
+        }
+        userRepository.save(User.builder()
+                .username("testuser")
+                .email("testuser@example.com")
+                .displayName("Test testuser")
+                .passwordHash(passwordEncoder.encode("test123"))
+                .build());
+        log.info("개발용 테스트 계정(testuser)을 생성했습니다.");
+    }
+}
@@ -0,0 +1,20 @@
+package com.meowtown.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 공유 ObjectMapper 설정
+ * Spring Boot가 Module 빈을 자동으로 등록한다. Blackbird는 DTO 접근자 호출을 리플렉션 대신
+ * LambdaMetafactory로 생성한 함수로 바꿔 CatView/PostView 목록 직렬화 비용을 줄인다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
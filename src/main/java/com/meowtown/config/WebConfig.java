@@ -1,12 +1,21 @@
 package com.meowtown.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meowtown.common.ApiResponseHttpMessageConverter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
-    
+
+    private final ObjectMapper objectMapper;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -16,4 +25,10 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true)
                 .maxAge(3600);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // ApiResponse는 Jackson 컨버터보다 먼저 전용 컨버터로 쓴다
+        converters.add(0, new ApiResponseHttpMessageConverter(objectMapper));
+    }
+}
@@ -1,7 +1,16 @@
 package com.meowtown.controller;
 
 import com.meowtown.common.ApiResponse;
+import com.meowtown.common.ErrorCode;
+import com.meowtown.exception.UnauthorizedException;
+import com.meowtown.security.JwtAuthenticationCache;
 import com.meowtown.security.JwtTokenProvider;
+import com.meowtown.security.TokenRevocationService;
+import com.meowtown.service.AuthService;
+import com.meowtown.service.RefreshTokenService;
+import com.meowtown.service.UserPrincipalCache;
+import com.meowtown.util.JwtUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -10,11 +19,11 @@ import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -24,7 +33,11 @@ import java.util.Map;
 public class AuthController {
     
     private final JwtTokenProvider jwtTokenProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final AuthService authService;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
+    private final JwtUtil jwtUtil;
     
     @Data
     public static class LoginRequest {
@@ -54,79 +67,135 @@ public class AuthController {
         private String password;
     }
     
+    @Data
+    public static class RefreshRequest {
+        @NotBlank(message = "리프레시 토큰은 필수입니다.")
+        private String refreshToken;
+    }
+    
     @Data
     public static class UserResponse {
         private String userId;
         private String email;
         private String displayName;
         
-        public static UserResponse testUser(String userId) {
+        public static UserResponse of(UserPrincipalCache.UserPrincipal principal) {
             UserResponse response = new UserResponse();
-            response.userId = userId;
-            response.email = userId + "@example.com";
-            response.displayName = "Test " + userId;
+            response.userId = principal.username();
+            response.email = principal.email();
+            response.displayName = principal.displayName();
             return response;
         }
     }
     
     /**
-     * 로그인 (테스트용 하드코딩)
+     * 로그인 - 비밀번호 검증은 해시 전용 스레드 풀에서 수행되고 요청 스레드는 반환된다
+     * (토큰 발급은 AuthService가 넘겨준 authTaskExecutor 스레드에서 이어서 실행된다)
      */
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> login(
+    public CompletableFuture<ResponseEntity<ApiResponse<Map<String, Object>>>> login(
             @Valid @RequestBody LoginRequest request) {
         
         log.info("Login attempt for user: {}", request.getUserId());
         
-        // 테스트용 하드코딩된 유저 (실제로는 DB에서 조회해야 함)
-        if ("testuser".equals(request.getUserId()) && "test123".equals(request.getPassword())) {
-            // JWT 토큰 생성
-            String token = jwtTokenProvider.createToken(request.getUserId(), "ROLE_USER");
+        return authService.login(request.getUserId(), request.getPassword()).thenApply(principal -> {
+            if (principal.isPresent()) {
+                // JWT 토큰 생성
+                Map<String, Object> result = issueTokens(principal.get());
+                result.put("user", UserResponse.of(principal.get()));
+                
+                log.info("Login successful for user: {}, JWT token generated", request.getUserId());
+                return ResponseEntity.ok(ApiResponse.success(result, "로그인 성공"));
+            }
             
-            Map<String, Object> result = new HashMap<>();
-            result.put("user", UserResponse.testUser(request.getUserId()));
-            result.put("token", token);
-            result.put("tokenType", "Bearer");
-            
-            log.info("Login successful for user: {}, JWT token generated", request.getUserId());
-            return ResponseEntity.ok(ApiResponse.success(result, "로그인 성공"));
-        }
-        
-        log.warn("Login failed for user: {}", request.getUserId());
-        return ResponseEntity.badRequest()
-                .body(ApiResponse.error("사용자 ID 또는 비밀번호가 올바르지 않습니다."));
+            log.warn("Login failed for user: {}", request.getUserId());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("사용자 ID 또는 비밀번호가 올바르지 않습니다."));
+        });
     }
     
     /**
-     * 회원가입 (테스트용 간단 구현)
+     * 회원가입
      */
     @PostMapping("/register")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> register(
+    public CompletableFuture<ResponseEntity<ApiResponse<Map<String, Object>>>> register(
             @Valid @RequestBody RegisterRequest request) {
         
         log.info("Registration attempt for user: {}", request.getUserId());
         
-        // 테스트용 간단한 회원가입 (실제로는 DB 저장 필요)
-        String token = jwtTokenProvider.createToken(request.getUserId(), "ROLE_USER");
+        return authService.register(request.getUserId(), request.getEmail(), request.getDisplayName(), request.getPassword())
+                .thenApply(principal -> {
+                    Map<String, Object> result = issueTokens(principal);
+                    result.put("user", UserResponse.of(principal));
+                    
+                    log.info("Registration successful for user: {}, JWT token generated", request.getUserId());
+                    return ResponseEntity.ok(ApiResponse.success(result, "회원가입 성공"));
+                });
+    }
+    
+    /**
+     * 토큰 갱신 - 리프레시 토큰을 새 토큰으로 교체하고 새 access token 발급
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> refresh(
+            @Valid @RequestBody RefreshRequest request) {
+        
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        UserPrincipalCache.UserPrincipal principal = authService.findByUserId(rotation.username())
+                .orElseThrow(() -> new UnauthorizedException(ErrorCode.AUTH_TOKEN_INVALID, "존재하지 않는 사용자"));
         
         Map<String, Object> result = new HashMap<>();
-        result.put("user", UserResponse.testUser(request.getUserId()));
-        result.put("token", token);
+        result.put("token", jwtTokenProvider.createToken(principal.username(), principal.authorities()));
+        result.put("refreshToken", rotation.refreshToken());
         result.put("tokenType", "Bearer");
+        result.put("expiresIn", jwtTokenProvider.getTokenValiditySeconds());
         
-        log.info("Registration successful for user: {}, JWT token generated", request.getUserId());
-        return ResponseEntity.ok(ApiResponse.success(result, "회원가입 성공"));
+        return ResponseEntity.ok(ApiResponse.success(result, "토큰 갱신 성공"));
     }
     
     /**
-     * 로그아웃 (JWT는 클라이언트에서 토큰 삭제)
+     * 로그아웃 - 요청의 토큰을 만료 시각까지 폐기 목록에 등록하고, 리프레시 토큰이 있으면 family를 폐기
      */
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<String>> logout() {
+    public ResponseEntity<ApiResponse<String>> logout(
+            HttpServletRequest request,
+            @RequestBody(required = false) RefreshRequest refreshRequest) {
         log.info("Logout requested");
+        
+        if (refreshRequest != null && refreshRequest.getRefreshToken() != null) {
+            try {
+                refreshTokenService.revoke(refreshRequest.getRefreshToken());
+            } catch (Exception e) {
+                log.debug("리프레시 토큰을 폐기하지 않았습니다: {}", e.getMessage());
+            }
+        }
+        
+        String token = jwtUtil.extractTokenFromRequest(request);
+        if (token != null) {
+            try {
+                JwtTokenProvider.AuthenticatedToken verified = jwtAuthenticationCache.authenticate(token);
+                tokenRevocationService.revoke(verified.tokenId(), verified.expiresAtMillis());
+                jwtAuthenticationCache.invalidate(token);
+            } catch (Exception e) {
+                // 이미 만료되었거나 잘못된 토큰은 폐기할 필요가 없다
+                log.debug("로그아웃 토큰을 폐기하지 않았습니다: {}", e.getMessage());
+            }
+        }
         return ResponseEntity.ok(ApiResponse.success("로그아웃 성공"));
     }
     
+    /**
+     * access token(짧은 유효 시간)과 리프레시 토큰 발급
+     */
+    private Map<String, Object> issueTokens(UserPrincipalCache.UserPrincipal principal) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("token", jwtTokenProvider.createToken(principal.username(), principal.authorities()));
+        result.put("refreshToken", refreshTokenService.issue(principal.username()));
+        result.put("tokenType", "Bearer");
+        result.put("expiresIn", jwtTokenProvider.getTokenValiditySeconds());
+        return result;
+    }
+    
     /**
      * 인증 확인 (JWT 토큰 검증)
      */
@@ -1,13 +1,20 @@
 package com.meowtown.controller;
 
+import com.meowtown.common.ApiResponse;
+import com.meowtown.dto.CatClusterView;
+import com.meowtown.dto.CatView;
 import com.meowtown.dto.UserInfo;
+import com.meowtown.entity.enums.LikeTargetType;
+import com.meowtown.service.LikeService;
+import com.meowtown.store.CatStore;
+import com.meowtown.util.ETags;
 import com.meowtown.util.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
-import java.time.LocalDateTime;
 import java.util.*;
 
 @RestController
@@ -16,83 +23,55 @@ import java.util.*;
 @RequiredArgsConstructor
 public class SimpleCatController {
     
-    private final JwtUtil jwtUtil;
-
-    private static final List<Map<String, Object>> MOCK_CATS = new ArrayList<>();
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_ZOOM = 22;
+    // 주변 조회 반경 상한 (m)
+    private static final double MAX_RADIUS_METERS = 50_000;
     
-    static {
-        // 목업 고양이 데이터 생성
-        for (int i = 1; i <= 5; i++) {
-            Map<String, Object> cat = new HashMap<>();
-            cat.put("id", "cat-" + i);
-            cat.put("name", "냥이" + i);
-            cat.put("image", "https://picsum.photos/300/200?random=" + i);
-            cat.put("location", "서울시 강남구");
-            cat.put("lastSeen", (i == 1) ? "방금 전" : i + "시간 전");
-            cat.put("description", "귀여운 고양이입니다 🐱");
-            cat.put("characteristics", Arrays.asList("친근함", "활발함", "귀여움"));
-            
-            Map<String, Object> reportedBy = new HashMap<>();
-            reportedBy.put("name", "사용자" + i);
-            reportedBy.put("avatar", null);
-            cat.put("reportedBy", reportedBy);
-            
-            cat.put("likes", (int)(Math.random() * 20) + 1);
-            cat.put("comments", (int)(Math.random() * 10) + 1);
-            cat.put("isLiked", false);
-            cat.put("isNeutered", Math.random() > 0.5);
-            cat.put("estimatedAge", "1-2년");
-            cat.put("gender", new String[]{"male", "female", "unknown"}[(int)(Math.random() * 3)]);
-            cat.put("lat", 37.4979 + (Math.random() * 0.1));
-            cat.put("lng", 127.0276 + (Math.random() * 0.1));
-            cat.put("reportCount", (int)(Math.random() * 5) + 1);
-            
-            MOCK_CATS.add(cat);
-        }
-    }
+    private final JwtUtil jwtUtil;
+    private final CatStore catStore;
+    private final LikeService likeService;
 
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllCats() {
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("data", MOCK_CATS);
-        response.put("message", MOCK_CATS.size() + "마리의 고양이를 찾았습니다.");
-        response.put("timestamp", LocalDateTime.now().toString());
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ApiResponse<List<CatView>>> getAllCats(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String gender,
+            @RequestParam(required = false) Boolean isNeutered,
+            @RequestParam(required = false) String bbox,
+            ServletWebRequest webRequest) {
+        // 목록이 바뀌지 않았으면 본문을 만들지 않고 304 (isLiked가 사용자별이므로 사용자도 ETag에 포함)
+        String viewerId = JwtUtil.getCurrentUserId();
+        if (ETags.checkNotModified(webRequest,
+                ETags.of(catStore.version(), cursor, size, gender, isNeutered, bbox, viewerId))) {
+            return null;
+        }
+        
+        CatStore.Filter filter = new CatStore.Filter(
+            gender != null ? gender.toLowerCase() : null, isNeutered, parseBbox(bbox));
+        CatStore.Page page = catStore.page(filter, cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE)), viewerId);
+        
+        return ResponseEntity.ok(ApiResponse.page(page.items(), page.nextCursor(),
+            page.items().size() + "마리의 고양이를 찾았습니다."));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> getCatById(@PathVariable String id) {
-        Map<String, Object> response = new HashMap<>();
-        
-        Optional<Map<String, Object>> cat = MOCK_CATS.stream()
-            .filter(c -> id.equals(c.get("id")))
-            .findFirst();
+    public ResponseEntity<ApiResponse<CatView>> getCatById(@PathVariable String id) {
+        int ordinal = catStore.ordinalOf(id);
             
-        if (cat.isPresent()) {
-            response.put("success", true);
-            response.put("data", cat.get());
-            response.put("message", "고양이 정보를 찾았습니다.");
-        } else {
-            response.put("success", false);
-            response.put("error", Map.of("code", "NOT_FOUND", "message", "고양이를 찾을 수 없습니다."));
+        if (ordinal >= 0) {
+            return ResponseEntity.ok(ApiResponse.success(
+                catStore.view(ordinal, JwtUtil.getCurrentUserId()), "고양이 정보를 찾았습니다."));
         }
-        
-        response.put("timestamp", LocalDateTime.now().toString());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(ApiResponse.failure("NOT_FOUND", "고양이를 찾을 수 없습니다."));
     }
 
     @PostMapping
-    public ResponseEntity<Map<String, Object>> createCat(@RequestBody Map<String, Object> catData, HttpServletRequest request) {
-        Map<String, Object> response = new HashMap<>();
-        
+    public ResponseEntity<ApiResponse<CatView>> createCat(@RequestBody Map<String, Object> catData, HttpServletRequest request) {
         // JWT 인증 확인
         String currentUserId = JwtUtil.getCurrentUserId();
         if (currentUserId == null) {
-            response.put("success", false);
-            response.put("message", "로그인이 필요합니다.");
-            response.put("timestamp", LocalDateTime.now().toString());
-            return ResponseEntity.status(401).body(response);
+            return ResponseEntity.status(401).body(ApiResponse.error("로그인이 필요합니다."));
         }
         
         // JWT에서 사용자 정보 생성
@@ -100,88 +79,134 @@ public class SimpleCatController {
         
         // 새 고양이 생성
         Map<String, Object> newCat = new HashMap<>(catData);
-        newCat.put("id", "cat-" + System.currentTimeMillis());
+        // 같은 밀리초에 등록돼도 겹치지 않도록 UUID로 생성 (중복 id는 CatStore.add가 거부한다)
+        newCat.put("id", "cat-" + UUID.randomUUID());
         newCat.put("likes", 0);
         newCat.put("comments", 0);
-        newCat.put("isLiked", false);
         newCat.put("reportCount", 1);
         
         // 등록자 정보 설정 (JWT 기반)
-        Map<String, Object> reportedBy = new HashMap<>();
-        reportedBy.put("name", currentUser.getDisplayName());
-        reportedBy.put("avatar", null);
-        newCat.put("reportedBy", reportedBy);
+        int ordinal = catStore.add(newCat, currentUser.getDisplayName());
         
-        MOCK_CATS.add(0, newCat); // 맨 앞에 추가
+        return ResponseEntity.ok(ApiResponse.success(catStore.view(ordinal, currentUserId), "고양이가 성공적으로 등록되었습니다!"));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<CatView>>> getNearbyCats(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "1000") double radius,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (!isValidLat(lat) || !isValidLng(lng)) {
+            throw new IllegalArgumentException("위도는 -90에서 90, 경도는 -180에서 180 사이여야 합니다.");
+        }
+        if (Double.isNaN(radius)) {
+            throw new IllegalArgumentException("radius는 숫자여야 합니다.");
+        }
+        radius = Math.max(0, Math.min(radius, MAX_RADIUS_METERS));
+        List<CatView> results = catStore.views(
+            catStore.nearest(lat, lng, radius, Math.max(1, Math.min(limit, MAX_PAGE_SIZE))), JwtUtil.getCurrentUserId());
         
-        response.put("success", true);
-        response.put("data", newCat);
-        response.put("message", "고양이가 성공적으로 등록되었습니다!");
-        response.put("timestamp", LocalDateTime.now().toString());
+        return ResponseEntity.ok(ApiResponse.success(results,
+            String.format("반경 %.0fm 내에서 %d마리의 고양이를 찾았습니다.", radius, results.size())));
+    }
+
+    /**
+     * 지도 클러스터 조회 - 화면 영역(bbox)과 줌 레벨에 맞게 미리 집계된 클러스터
+     * 줌 16보다 확대하면 개별 고양이 위치가 개수 1인 클러스터로 온다.
+     */
+    @GetMapping("/clusters")
+    public ResponseEntity<ApiResponse<List<CatClusterView>>> getCatClusters(
+            @RequestParam String bbox,
+            @RequestParam int zoom,
+            ServletWebRequest webRequest) {
+        double[] area = parseBbox(bbox);
+        if (area == null) {
+            throw new IllegalArgumentException("bbox는 필수입니다.");
+        }
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("zoom은 0에서 " + MAX_ZOOM + " 사이여야 합니다.");
+        }
+        // 클러스터에는 사용자별 값이 없으므로 사용자는 ETag에 넣지 않는다
+        if (ETags.checkNotModified(webRequest, ETags.of(catStore.version(), bbox, zoom))) {
+            return null;
+        }
+        List<CatClusterView> clusters = catStore.clusters(area, zoom);
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(ApiResponse.success(clusters, clusters.size() + "개의 클러스터를 찾았습니다."));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Map<String, Object>> searchCats(@RequestParam String query) {
-        Map<String, Object> response = new HashMap<>();
-        
-        List<Map<String, Object>> results = MOCK_CATS.stream()
-            .filter(cat -> cat.get("name").toString().toLowerCase().contains(query.toLowerCase()))
-            .toList();
+    public ResponseEntity<ApiResponse<List<CatView>>> searchCats(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "20") int size) {
+        // 이름/설명/위치/특징 색인에서 관련도 순으로 조회
+        List<CatView> results = catStore.views(
+            catStore.search(query, Math.max(1, Math.min(size, MAX_PAGE_SIZE))), JwtUtil.getCurrentUserId());
             
-        response.put("success", true);
-        response.put("data", results);
-        response.put("message", results.size() + "마리의 고양이를 찾았습니다.");
-        response.put("timestamp", LocalDateTime.now().toString());
-        
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(ApiResponse.success(results, results.size() + "마리의 고양이를 찾았습니다."));
     }
 
     @PostMapping("/{id}/like")
-    public ResponseEntity<Map<String, Object>> toggleCatLike(@PathVariable String id, HttpServletRequest request) {
-        Map<String, Object> response = new HashMap<>();
-        
+    public ResponseEntity<ApiResponse<Map<String, Object>>> toggleCatLike(@PathVariable String id, HttpServletRequest request) {
         // JWT 인증 확인
         String currentUserId = JwtUtil.getCurrentUserId();
         if (currentUserId == null) {
-            response.put("success", false);
-            response.put("message", "로그인이 필요합니다.");
-            response.put("timestamp", LocalDateTime.now().toString());
-            return ResponseEntity.status(401).body(response);
+            return ResponseEntity.status(401).body(ApiResponse.error("로그인이 필요합니다."));
         }
         
         // 고양이 찾기
-        Optional<Map<String, Object>> catOpt = MOCK_CATS.stream()
-            .filter(cat -> cat.get("id").equals(id))
-            .findFirst();
-            
-        if (catOpt.isPresent()) {
-            Map<String, Object> cat = catOpt.get();
-            boolean isLiked = (Boolean) cat.get("isLiked");
-            int likes = (Integer) cat.get("likes");
-            
-            // 좋아요 토글
-            boolean newIsLiked = !isLiked;
-            int newLikes = newIsLiked ? likes + 1 : likes - 1;
+        int ordinal = catStore.ordinalOf(id);
             
-            cat.put("isLiked", newIsLiked);
-            cat.put("likes", newLikes);
-            
-            Map<String, Object> result = new HashMap<>();
-            result.put("catId", id);
-            result.put("isLiked", newIsLiked);
-            result.put("likeCount", newLikes);
-            
-            response.put("success", true);
-            response.put("data", result);
-            response.put("message", newIsLiked ? "좋아요를 눌렀습니다." : "좋아요를 취소했습니다.");
-        } else {
-            response.put("success", false);
-            response.put("message", "고양이를 찾을 수 없습니다.");
+        if (ordinal < 0) {
+            return ResponseEntity.ok(ApiResponse.error("고양이를 찾을 수 없습니다."));
         }
         
-        response.put("timestamp", LocalDateTime.now().toString());
-        return ResponseEntity.ok(response);
+        // 좋아요 토글 (사용자별)
+        LikeService.LikeState likeState = likeService.toggle(LikeTargetType.CAT, id, currentUserId);
+        catStore.markModified();
+        boolean newIsLiked = likeState.isLiked();
+        long newLikes = likeState.likes();
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("catId", id);
+        result.put("isLiked", newIsLiked);
+        result.put("likeCount", newLikes);
+        
+        return ResponseEntity.ok(ApiResponse.success(result, newIsLiked ? "좋아요를 눌렀습니다." : "좋아요를 취소했습니다."));
+    }
+
+    
+    /**
+     * bbox 파라미터 파싱 (minLng,minLat,maxLng,maxLat)
+     */
+    private static double[] parseBbox(String bbox) {
+        if (bbox == null || bbox.isBlank()) {
+            return null;
+        }
+        String[] parts = bbox.split(",");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("bbox는 minLng,minLat,maxLng,maxLat 형식이어야 합니다.");
+        }
+        double[] values = new double[4];
+        for (int i = 0; i < 4; i++) {
+            values[i] = Double.parseDouble(parts[i].trim());
+        }
+        if (!isValidLng(values[0]) || !isValidLat(values[1]) || !isValidLng(values[2]) || !isValidLat(values[3])) {
+            throw new IllegalArgumentException("bbox의 경도는 -180에서 180, 위도는 -90에서 90 사이여야 합니다.");
+        }
+        if (values[0] > values[2] || values[1] > values[3]) {
+            throw new IllegalArgumentException("bbox의 최소값은 최대값보다 클 수 없습니다.");
+        }
+        return values;
+    }
+
+    // NaN/Infinity는 범위 비교가 모두 false이므로 함께 걸러진다
+    private static boolean isValidLat(double lat) {
+        return lat >= -90.0 && lat <= 90.0;
+    }
+
+    private static boolean isValidLng(double lng) {
+        return lng >= -180.0 && lng <= 180.0;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package com.meowtown.dto;
+
+/**
+ * 지도 클러스터 응답 - 중심점은 셀에 속한 고양이 좌표의 평균
+ * count가 1이면 catId의 고양이 위치 그대로다.
+ */
+public record CatClusterView(
+        double lat,
+        double lng,
+        int count,
+        String catId) {
+}
@@ -0,0 +1,27 @@
+package com.meowtown.dto;
+
+import java.util.List;
+
+/**
+ * 고양이 응답 - 필드 순서가 JSON 키 순서다
+ * 위치가 없는 고양이는 lat/lng가 null이다.
+ */
+public record CatView(
+        String id,
+        String name,
+        String image,
+        String location,
+        String lastSeen,
+        String description,
+        List<String> characteristics,
+        ReporterView reportedBy,
+        long likes,
+        int comments,
+        boolean isLiked,
+        boolean isNeutered,
+        String estimatedAge,
+        String gender,
+        Double lat,
+        Double lng,
+        int reportCount) {
+}
@@ -0,0 +1,19 @@
+package com.meowtown.dto;
+
+import java.util.List;
+
+/**
+ * 게시글 댓글 응답 - parentId가 없으면 최상위 댓글
+ * replies에는 앞쪽 답글 일부만 담기고, 전체 답글 수는 replyCount다.
+ */
+public record CommentView(
+        String id,
+        String postId,
+        String author,
+        String content,
+        String time,
+        boolean isOwner,
+        String parentId,
+        int replyCount,
+        List<CommentView> replies) {
+}
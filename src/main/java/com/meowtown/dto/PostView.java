@@ -0,0 +1,18 @@
+package com.meowtown.dto;
+
+/**
+ * 커뮤니티 게시글 응답 - 좋아요 수/여부는 조회 시점 기준
+ */
+public record PostView(
+        String id,
+        String author,
+        String content,
+        String catName,
+        String location,
+        String time,
+        String type,
+        int comments,
+        boolean isOwner,
+        long likes,
+        boolean isLiked) {
+}
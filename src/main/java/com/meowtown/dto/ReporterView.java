@@ -0,0 +1,7 @@
+package com.meowtown.dto;
+
+/**
+ * 고양이 등록자 정보 응답
+ */
+public record ReporterView(String name, String avatar) {
+}
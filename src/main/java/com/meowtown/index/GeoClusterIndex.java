@@ -0,0 +1,185 @@
+package com.meowtown.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 지도 줌 레벨별 계층 격자 클러스터 인덱스
+ * 웹 메르카토르 타일을 한 변당 몇 칸으로 나눈 격자를 줌 0부터 maxZoom까지 두고, 셀마다 개수/좌표 합/대표 항목을 누적한다.
+ * 추가는 레벨 수만큼의 셀만 갱신하고, 조회는 화면에 보이는 셀 수에 비례한다.
+ * maxZoom보다 확대한 화면은 클러스터 대신 개별 좌표를 개수 1인 클러스터로 돌려준다.
+ */
+public class GeoClusterIndex<T> {
+
+    // 웹 메르카토르가 표현하는 최대 위도
+    private static final double MAX_LAT = 85.05112878;
+
+    private final int maxZoom;
+    private final int cellsPerTileShift;
+    private final ConcurrentHashMap<Long, Cell<T>>[] levels;
+
+    /**
+     * @param maxZoom           클러스터를 만드는 최대 줌 (이 레벨의 셀만 개별 좌표를 보관)
+     * @param cellsPerTileShift 타일(256px) 한 변을 2^shift 칸으로 나눔 - 2면 64px 크기의 클러스터
+     */
+    @SuppressWarnings("unchecked")
+    public GeoClusterIndex(int maxZoom, int cellsPerTileShift) {
+        if (maxZoom < 0 || cellsPerTileShift < 0 || maxZoom + cellsPerTileShift > 30) {
+            throw new IllegalArgumentException("maxZoom + cellsPerTileShift must be between 0 and 30");
+        }
+        this.maxZoom = maxZoom;
+        this.cellsPerTileShift = cellsPerTileShift;
+        this.levels = (ConcurrentHashMap<Long, Cell<T>>[]) new ConcurrentHashMap<?, ?>[maxZoom + 1];
+        for (int zoom = 0; zoom <= maxZoom; zoom++) {
+            levels[zoom] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * 좌표에 항목 추가 - 모든 레벨에서 해당 셀의 집계를 갱신
+     */
+    public void add(double lat, double lng, T item) {
+        double x = projectX(lng);
+        double y = projectY(lat);
+        for (int zoom = 0; zoom <= maxZoom; zoom++) {
+            int shift = zoom + cellsPerTileShift;
+            boolean leaf = zoom == maxZoom;
+            levels[zoom].computeIfAbsent(cellKey(cell(x, shift), cell(y, shift)), k -> new Cell<>(leaf))
+                    .add(lat, lng, item);
+        }
+    }
+
+    /**
+     * 영역(minLng, minLat, maxLng, maxLat)과 겹치는 줌 레벨의 클러스터 조회
+     * 셀 단위로 집계하므로 영역 가장자리 셀의 중심점은 영역 밖에 있을 수 있다.
+     */
+    public List<Cluster<T>> clusters(double minLng, double minLat, double maxLng, double maxLat, int zoom) {
+        int level = Math.max(0, Math.min(zoom, maxZoom));
+        int shift = level + cellsPerTileShift;
+        int x0 = cell(projectX(minLng), shift);
+        int x1 = cell(projectX(maxLng), shift);
+        // 메르카토르 y는 북쪽이 0
+        int y0 = cell(projectY(maxLat), shift);
+        int y1 = cell(projectY(minLat), shift);
+
+        List<Cluster<T>> result = new ArrayList<>();
+        boolean points = zoom > maxZoom;
+        forEachCell(levels[level], x0, x1, y0, y1, cell -> {
+            if (points) {
+                cell.collectPoints(minLng, minLat, maxLng, maxLat, result);
+            } else {
+                result.add(cell.cluster());
+            }
+        });
+        return result;
+    }
+
+    private void forEachCell(ConcurrentHashMap<Long, Cell<T>> cells, int x0, int x1, int y0, int y1,
+                             Consumer<Cell<T>> action) {
+        long rangeCells = (long) (x1 - x0 + 1) * (y1 - y0 + 1);
+        if (rangeCells <= cells.size()) {
+            for (int x = x0; x <= x1; x++) {
+                for (int y = y0; y <= y1; y++) {
+                    Cell<T> cell = cells.get(cellKey(x, y));
+                    if (cell != null) {
+                        action.accept(cell);
+                    }
+                }
+            }
+            return;
+        }
+        // 영역이 채워진 셀 수보다 넓으면 채워진 셀만 순회한다 (확대한 채로 넓은 영역을 요청한 경우)
+        cells.forEach((key, cell) -> {
+            int x = (int) (key >> 32);
+            int y = (int) key.longValue();
+            if (x >= x0 && x <= x1 && y >= y0 && y <= y1) {
+                action.accept(cell);
+            }
+        });
+    }
+
+    private static double projectX(double lng) {
+        return (Math.max(-180.0, Math.min(180.0, lng)) + 180.0) / 360.0;
+    }
+
+    private static double projectY(double lat) {
+        double sin = Math.sin(Math.toRadians(Math.max(-MAX_LAT, Math.min(MAX_LAT, lat))));
+        return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+    }
+
+    /**
+     * [0, 1] 좌표를 2^shift 칸 격자의 칸 번호로 변환 (경계값 1은 마지막 칸)
+     */
+    private static int cell(double normalized, int shift) {
+        int cells = 1 << shift;
+        return Math.max(0, Math.min(cells - 1, (int) Math.floor(normalized * cells)));
+    }
+
+    private static long cellKey(int x, int y) {
+        return ((long) x << 32) | (y & 0xffffffffL);
+    }
+
+    /**
+     * @param representative 셀에 가장 최근에 추가된 항목
+     */
+    public record Cluster<T>(double lat, double lng, int count, T representative) {
+    }
+
+    /**
+     * 셀 하나의 집계 (셀 단위 잠금) - 최대 줌 레벨의 셀만 개별 좌표를 보관
+     */
+    private static final class Cell<T> {
+
+        private int count;
+        private double sumLat;
+        private double sumLng;
+        private T representative;
+
+        private double[] lats;
+        private double[] lngs;
+        private Object[] items;
+
+        Cell(boolean leaf) {
+            if (leaf) {
+                lats = new double[4];
+                lngs = new double[4];
+                items = new Object[4];
+            }
+        }
+
+        synchronized void add(double lat, double lng, T item) {
+            if (items != null) {
+                if (count == items.length) {
+                    int capacity = count * 2;
+                    lats = Arrays.copyOf(lats, capacity);
+                    lngs = Arrays.copyOf(lngs, capacity);
+                    items = Arrays.copyOf(items, capacity);
+                }
+                lats[count] = lat;
+                lngs[count] = lng;
+                items[count] = item;
+            }
+            count++;
+            sumLat += lat;
+            sumLng += lng;
+            representative = item;
+        }
+
+        synchronized Cluster<T> cluster() {
+            return new Cluster<>(sumLat / count, sumLng / count, count, representative);
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized void collectPoints(double minLng, double minLat, double maxLng, double maxLat,
+                                        List<Cluster<T>> result) {
+            for (int i = 0; i < count; i++) {
+                if (lngs[i] >= minLng && lats[i] >= minLat && lngs[i] <= maxLng && lats[i] <= maxLat) {
+                    result.add(new Cluster<>(lats[i], lngs[i], 1, (T) items[i]));
+                }
+            }
+        }
+    }
+}
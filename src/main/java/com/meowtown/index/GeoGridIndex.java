@@ -0,0 +1,242 @@
+package com.meowtown.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 위/경도 균일 격자 기반 공간 인덱스
+ * 각 셀에 포함된 좌표만 검사하므로 k-최근접 조회가 전체 개수가 아닌 주변 셀 수에 비례한다.
+ */
+public class GeoGridIndex<T> {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180.0;
+
+    private final double cellSizeDegrees;
+    private final ConcurrentHashMap<Long, Cell<T>> cells = new ConcurrentHashMap<>();
+
+    public GeoGridIndex(double cellSizeDegrees) {
+        if (cellSizeDegrees <= 0) {
+            throw new IllegalArgumentException("cellSizeDegrees must be positive");
+        }
+        this.cellSizeDegrees = cellSizeDegrees;
+    }
+
+    /**
+     * 좌표에 항목 추가
+     */
+    public void add(double lat, double lng, T item) {
+        cells.computeIfAbsent(cellKey(row(lat), col(lng)), k -> new Cell<>()).add(lat, lng, item);
+    }
+
+    /**
+     * 중심 좌표에서 반경(m) 이내의 가까운 항목을 거리순으로 최대 limit개 조회
+     */
+    public List<Neighbor<T>> nearest(double lat, double lng, double radiusMeters, int limit) {
+        if (limit <= 0 || radiusMeters < 0 || cells.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 거리가 가장 먼 후보가 head에 오는 최대 힙
+        PriorityQueue<Neighbor<T>> heap = new PriorityQueue<>(limit + 1,
+                (a, b) -> Double.compare(b.distanceMeters(), a.distanceMeters()));
+
+        int centerRow = row(lat);
+        int centerCol = col(lng);
+        double cellMeters = minCellMeters(lat, radiusMeters);
+        int maxRing = (int) Math.min(Integer.MAX_VALUE - 1L, (long) Math.ceil(radiusMeters / cellMeters) + 1);
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            long ringCells = ring == 0 ? 1 : 8L * ring;
+            if (ringCells > cells.size()) {
+                // 링이 전체 셀 수보다 커지면 남은 셀을 직접 순회하는 편이 저렴하다
+                scanRemainingCells(centerRow, centerCol, ring, lat, lng, radiusMeters, limit, heap);
+                break;
+            }
+
+            double ringLowerBound = Math.max(0, ring - 1) * cellMeters;
+            if (ringLowerBound > radiusMeters
+                    || (heap.size() == limit && ringLowerBound > heap.peek().distanceMeters())) {
+                break;
+            }
+
+            for (int dr = -ring; dr <= ring; dr++) {
+                // 링의 위/아래 행은 전부, 가운데 행은 양 끝 셀만 검사
+                int step = Math.abs(dr) == ring ? 1 : 2 * ring;
+                for (int dc = -ring; dc <= ring; dc += step) {
+                    Cell<T> cell = cells.get(cellKey(centerRow + dr, centerCol + dc));
+                    if (cell != null) {
+                        cell.collect(lat, lng, radiusMeters, limit, heap);
+                    }
+                }
+            }
+        }
+
+        List<Neighbor<T>> result = new ArrayList<>(heap);
+        result.sort((a, b) -> Double.compare(a.distanceMeters(), b.distanceMeters()));
+        return result;
+    }
+
+    /**
+     * 영역 안의 항목 순회 - 영역과 겹치는 셀만 검사하므로 영역 주변 셀의 항목 수에 비례한다
+     */
+    public void forEachWithin(double minLat, double minLng, double maxLat, double maxLng, Consumer<T> action) {
+        forEachCell(minLat, minLng, maxLat, maxLng, cell -> cell.forEachWithin(minLat, minLng, maxLat, maxLng, action));
+    }
+
+    /**
+     * 영역과 겹치는 셀의 항목 수 합 - 영역 안 항목 수의 상한 (셀 수에 비례, 항목은 검사하지 않음)
+     */
+    public int countWithin(double minLat, double minLng, double maxLat, double maxLng) {
+        int[] count = new int[1];
+        forEachCell(minLat, minLng, maxLat, maxLng, cell -> count[0] += cell.size());
+        return count[0];
+    }
+
+    private void forEachCell(double minLat, double minLng, double maxLat, double maxLng, Consumer<Cell<T>> action) {
+        // 격자 밖 좌표는 가장자리 칸으로 잘라 행/열 범위가 위도 ±90, 경도 ±180 격자를 넘지 않게 한다
+        int row0 = Math.max(0, row(minLat));
+        int row1 = Math.min(row(90.0), row(maxLat));
+        int col0 = Math.max(0, col(minLng));
+        int col1 = Math.min(col(180.0), col(maxLng));
+        if (row0 > row1 || col0 > col1) {
+            return;
+        }
+        long rangeCells = ((long) row1 - row0 + 1) * ((long) col1 - col0 + 1);
+        if (rangeCells <= cells.size()) {
+            for (int r = row0; r <= row1; r++) {
+                for (int c = col0; c <= col1; c++) {
+                    Cell<T> cell = cells.get(cellKey(r, c));
+                    if (cell != null) {
+                        action.accept(cell);
+                    }
+                }
+            }
+            return;
+        }
+        // 영역이 채워진 셀 수보다 넓으면 채워진 셀만 순회한다
+        cells.forEach((key, cell) -> {
+            int r = (int) (key >> 32);
+            int c = (int) key.longValue();
+            if (r >= row0 && r <= row1 && c >= col0 && c <= col1) {
+                action.accept(cell);
+            }
+        });
+    }
+
+    public int cellCount() {
+        return cells.size();
+    }
+
+    private void scanRemainingCells(int centerRow, int centerCol, int fromRing, double lat, double lng,
+                                    double radiusMeters, int limit, PriorityQueue<Neighbor<T>> heap) {
+        cells.forEach((key, cell) -> {
+            int r = (int) (key >> 32);
+            int c = (int) key.longValue();
+            int ring = Math.max(Math.abs(r - centerRow), Math.abs(c - centerCol));
+            if (ring >= fromRing) {
+                cell.collect(lat, lng, radiusMeters, limit, heap);
+            }
+        });
+    }
+
+    /**
+     * 셀 한 변의 최소 길이(m) - 경도 방향은 위도가 높을수록 짧아지므로 검색 범위의 최고 위도 기준으로 계산
+     */
+    private double minCellMeters(double lat, double radiusMeters) {
+        double latSpan = radiusMeters / METERS_PER_DEGREE;
+        double maxAbsLat = Math.min(89.9, Math.abs(lat) + latSpan);
+        double latMeters = cellSizeDegrees * METERS_PER_DEGREE;
+        double lngMeters = latMeters * Math.cos(Math.toRadians(maxAbsLat));
+        return Math.max(1.0, Math.min(latMeters, lngMeters));
+    }
+
+    private int row(double lat) {
+        return (int) Math.floor((lat + 90.0) / cellSizeDegrees);
+    }
+
+    private int col(double lng) {
+        return (int) Math.floor((lng + 180.0) / cellSizeDegrees);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    /**
+     * 두 좌표 간 대원 거리(m)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    public record Neighbor<T>(T item, double distanceMeters) {
+    }
+
+    /**
+     * 셀 하나에 속한 좌표 목록 (셀 단위 잠금)
+     */
+    private static final class Cell<T> {
+
+        private double[] lats = new double[4];
+        private double[] lngs = new double[4];
+        private Object[] items = new Object[4];
+        private int size;
+
+        synchronized void add(double lat, double lng, T item) {
+            if (size == items.length) {
+                int capacity = size * 2;
+                lats = Arrays.copyOf(lats, capacity);
+                lngs = Arrays.copyOf(lngs, capacity);
+                items = Arrays.copyOf(items, capacity);
+            }
+            lats[size] = lat;
+            lngs[size] = lng;
+            items[size] = item;
+            size++;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized void forEachWithin(double minLat, double minLng, double maxLat, double maxLng, Consumer<T> action) {
+            for (int i = 0; i < size; i++) {
+                if (lats[i] >= minLat && lats[i] <= maxLat && lngs[i] >= minLng && lngs[i] <= maxLng) {
+                    action.accept((T) items[i]);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized void collect(double lat, double lng, double radiusMeters, int limit,
+                                  PriorityQueue<Neighbor<T>> heap) {
+            // 위도 방향 거리만으로 걸러낼 수 있는 후보는 삼각함수 계산을 생략한다
+            for (int i = 0; i < size; i++) {
+                double bound = heap.size() < limit ? radiusMeters : heap.peek().distanceMeters();
+                if (Math.abs(lats[i] - lat) * METERS_PER_DEGREE > bound) {
+                    continue;
+                }
+                double distance = distanceMeters(lat, lng, lats[i], lngs[i]);
+                if (distance > bound) {
+                    continue;
+                }
+                if (heap.size() == limit) {
+                    heap.poll();
+                }
+                heap.add(new Neighbor<>((T) items[i], distance));
+            }
+        }
+    }
+}
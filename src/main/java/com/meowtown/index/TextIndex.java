@@ -0,0 +1,308 @@
+package com.meowtown.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+/**
+ * 메모리 역색인
+ * 토큰별로 문서 번호와 가중치 목록(posting)을 보관하고, 질의 토큰을 충분히 포함하는 문서를
+ * 필드 가중치 x idf 합계로 순위를 매겨 반환한다. 문서/필드는 추가만 가능하며 검색과 동시에 추가할 수 있다.
+ */
+public class TextIndex {
+
+    private static final double MINIMUM_MATCH_RATIO = 0.6;
+    private static final int DENSE_SCORE_DIVISOR = 32;
+    // 일치 토큰 수, 점수, 최신 문서 순 (앞설수록 음수)
+    private static final Comparator<Hit> HIT_ORDER = (a, b) -> compare(a.matchedTerms(), a.score(), a.docId(), b);
+
+    private final ConcurrentSkipListMap<String, Postings> dictionary = new ConcurrentSkipListMap<>();
+    private final AtomicInteger documentCount = new AtomicInteger();
+    private final AtomicInteger maxDocId = new AtomicInteger(-1);
+
+    /**
+     * 문서의 한 필드를 색인 - 같은 문서에 여러 필드를 추가할 수 있다
+     */
+    public void add(int docId, String text, float fieldWeight) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String token : TextTokenizer.tokenize(text)) {
+            termFrequencies.merge(token, 1, Integer::sum);
+        }
+        maxDocId.accumulateAndGet(docId, Math::max);
+        termFrequencies.forEach((token, tf) ->
+                dictionary.computeIfAbsent(token, k -> new Postings()).add(docId, fieldWeight * tf));
+    }
+
+    /**
+     * 새 문서 등록 시 호출 (idf 계산용 문서 수)
+     */
+    public void registerDocument() {
+        documentCount.incrementAndGet();
+    }
+
+    /**
+     * 질의 토큰의 60% 이상을 포함하는 문서를 (일치 토큰 수, 점수, 최신 문서) 순으로 최대 limit개 반환
+     * 2-gram 특성상 활용형(친근한/친근함)이 일부 토큰만 일치하므로 모든 토큰 일치를 요구하지 않는다.
+     */
+    public List<Hit> search(String query, int limit) {
+        return search(query, limit, false, docId -> true);
+    }
+
+    /**
+     * prefixLastTerm이면 질의의 마지막 토큰을 접두어로 보고 해당 접두어로 시작하는 모든 토큰과 일치시킨다.
+     * filter를 통과한 문서만 상위 limit개 힙에 들어간다.
+     */
+    public List<Hit> search(String query, int limit, boolean prefixLastTerm, IntPredicate filter) {
+        List<List<Postings>> termPostings = resolveTerms(query, prefixLastTerm);
+        if (termPostings.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int terms = termPostings.size();
+        int minimumMatch = Math.max(1, (int) Math.ceil(terms * MINIMUM_MATCH_RATIO));
+        int totalDocs = Math.max(1, documentCount.get());
+
+        // 가장 드문 토큰부터 처리 - 앞쪽 (terms - minimumMatch + 1)개 토큰에 없는 문서는 조건을 만족할 수 없다
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < terms; i++) {
+            order.add(i);
+        }
+        order.sort((a, b) -> Integer.compare(postingSize(termPostings.get(a)), postingSize(termPostings.get(b))));
+        int candidateRanks = terms - minimumMatch + 1;
+
+        int candidateVolume = 0;
+        for (int rank = 0; rank < candidateRanks; rank++) {
+            candidateVolume += postingSize(termPostings.get(order.get(rank)));
+        }
+        Scores scores = candidateVolume > totalDocs / DENSE_SCORE_DIVISOR
+                ? new DenseScores(maxDocId.get() + 1)
+                : new SparseScores();
+
+        for (int rank = 0; rank < terms; rank++) {
+            int term = order.get(rank);
+            boolean createCandidates = rank < candidateRanks;
+            for (Postings postings : termPostings.get(term)) {
+                // size를 먼저 읽어야 그 size까지 채워진 배열을 본다
+                int size = postings.size;
+                Postings.Entries entries = postings.entries;
+                int[] docs = entries.docs();
+                float[] weights = entries.weights();
+                double idf = Math.log(1.0 + (double) totalDocs / Math.max(1, size));
+                for (int i = 0; i < size; i++) {
+                    scores.accumulate(docs[i], term, weights[i] * idf, createCandidates);
+                }
+            }
+        }
+
+        // 상위 limit개만 유지하는 최소 힙
+        PriorityQueue<Hit> heap = new PriorityQueue<>(limit + 1, HIT_ORDER.reversed());
+        scores.forEach((docId, matched, score) -> {
+            if (matched < minimumMatch || !filter.test(docId)) {
+                return;
+            }
+            if (heap.size() < limit) {
+                heap.add(new Hit(docId, matched, score));
+            } else if (compare(matched, score, docId, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(new Hit(docId, matched, score));
+            }
+        });
+
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort(HIT_ORDER);
+        return hits;
+    }
+
+    /**
+     * 질의 토큰별 posting 목록 (최대 64개 토큰)
+     * 한 글자 한글 토큰은 색인에 2-gram으로만 존재하므로 해당 글자로 시작하는 토큰 전체로 확장한다.
+     * prefixLastTerm이면 마지막 토큰도 같은 방식으로 확장한다.
+     * 색인에 없는 토큰은 빈 posting으로 남겨 최소 일치 토큰 수 계산에 포함한다.
+     */
+    private List<List<Postings>> resolveTerms(String query, boolean prefixLastTerm) {
+        List<List<Postings>> resolved = new ArrayList<>();
+        boolean matchedAny = false;
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(TextTokenizer.tokenize(query)));
+        for (int i = 0; i < tokens.size() && i < Long.SIZE - 1; i++) {
+            String token = tokens.get(i);
+            boolean prefix = (prefixLastTerm && i == tokens.size() - 1)
+                    || (token.length() == 1 && TextTokenizer.isHangul(token.charAt(0)));
+            List<Postings> postings = new ArrayList<>();
+            if (prefix) {
+                postings.addAll(prefixRange(token).values());
+            } else {
+                Postings exact = dictionary.get(token);
+                if (exact != null) {
+                    postings.add(exact);
+                }
+            }
+            resolved.add(postings);
+            matchedAny |= !postings.isEmpty();
+        }
+        return matchedAny ? resolved : List.of();
+    }
+
+    private NavigableMap<String, Postings> prefixRange(String prefix) {
+        return dictionary.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private static int compare(int matchedTerms, double score, int docId, Hit other) {
+        if (matchedTerms != other.matchedTerms()) {
+            return matchedTerms > other.matchedTerms() ? -1 : 1;
+        }
+        if (score != other.score()) {
+            return score > other.score() ? -1 : 1;
+        }
+        return Integer.compare(other.docId(), docId);
+    }
+
+    private static int postingSize(List<Postings> postings) {
+        int total = 0;
+        for (Postings p : postings) {
+            total += p.size;
+        }
+        return total;
+    }
+
+    public record Hit(int docId, int matchedTerms, double score) {
+    }
+
+    @FunctionalInterface
+    private interface ScoreConsumer {
+        void accept(int docId, int matchedTerms, double score);
+    }
+
+    /**
+     * 문서별 일치 토큰(bit mask)과 점수 누적
+     */
+    private interface Scores {
+        void accumulate(int docId, int term, double score, boolean createCandidate);
+
+        void forEach(ScoreConsumer consumer);
+    }
+
+    /**
+     * 후보가 적을 때 - 후보 문서만 해시맵에 보관
+     */
+    private static final class SparseScores implements Scores {
+
+        private final Map<Integer, Candidate> candidates = new HashMap<>();
+
+        @Override
+        public void accumulate(int docId, int term, double score, boolean createCandidate) {
+            Candidate candidate = candidates.get(docId);
+            if (candidate == null) {
+                if (!createCandidate) {
+                    return;
+                }
+                candidate = new Candidate();
+                candidates.put(docId, candidate);
+            }
+            candidate.mask |= 1L << term;
+            candidate.score += score;
+        }
+
+        @Override
+        public void forEach(ScoreConsumer consumer) {
+            candidates.forEach((docId, candidate) ->
+                    consumer.accept(docId, Long.bitCount(candidate.mask), candidate.score));
+        }
+
+        private static final class Candidate {
+            private long mask;
+            private double score;
+        }
+    }
+
+    /**
+     * 후보가 많을 때 - 문서 번호로 바로 접근하는 배열 사용
+     */
+    private static final class DenseScores implements Scores {
+
+        private final long[] masks;
+        private final double[] scores;
+
+        DenseScores(int capacity) {
+            this.masks = new long[capacity];
+            this.scores = new double[capacity];
+        }
+
+        @Override
+        public void accumulate(int docId, int term, double score, boolean createCandidate) {
+            if (docId >= masks.length || (masks[docId] == 0 && !createCandidate)) {
+                return;
+            }
+            masks[docId] |= 1L << term;
+            scores[docId] += score;
+        }
+
+        @Override
+        public void forEach(ScoreConsumer consumer) {
+            for (int docId = 0; docId < masks.length; docId++) {
+                if (masks[docId] != 0) {
+                    consumer.accept(docId, Long.bitCount(masks[docId]), scores[docId]);
+                }
+            }
+        }
+    }
+
+    /**
+     * 토큰 하나의 문서 목록 (문서 번호 오름차순, 문서당 한 항목) - 쓰기는 잠금, 읽기는 volatile size까지만 접근
+     * 항목 수가 곧 문서 빈도이므로 idf 계산에 그대로 쓴다.
+     */
+    private static final class Postings {
+
+        private volatile Entries entries = new Entries(new int[4], new float[4]);
+        private volatile int size;
+
+        synchronized void add(int docId, float weight) {
+            int n = size;
+            int[] docs = entries.docs();
+            float[] weights = entries.weights();
+            if (n == 0 || docs[n - 1] < docId) {
+                if (n == docs.length) {
+                    entries = new Entries(Arrays.copyOf(docs, n * 2), Arrays.copyOf(weights, n * 2));
+                    docs = entries.docs();
+                    weights = entries.weights();
+                }
+                weights[n] = weight;
+                docs[n] = docId;
+                size = n + 1;
+                return;
+            }
+            int index = Arrays.binarySearch(docs, 0, n, docId);
+            if (index >= 0) {
+                // 이미 색인된 문서의 다른 필드(나중에 달린 댓글 등) - 기존 항목에 합산
+                weights[index] += weight;
+                return;
+            }
+            // 이전 문서에 새 토큰이 추가된 경우 - 읽는 중인 배열을 밀지 않도록 새 배열에 끼워 넣는다
+            int insertAt = -index - 1;
+            int[] newDocs = new int[Math.max(docs.length, n + 1)];
+            float[] newWeights = new float[newDocs.length];
+            System.arraycopy(docs, 0, newDocs, 0, insertAt);
+            System.arraycopy(weights, 0, newWeights, 0, insertAt);
+            newDocs[insertAt] = docId;
+            newWeights[insertAt] = weight;
+            System.arraycopy(docs, insertAt, newDocs, insertAt + 1, n - insertAt);
+            System.arraycopy(weights, insertAt, newWeights, insertAt + 1, n - insertAt);
+            entries = new Entries(newDocs, newWeights);
+            size = n + 1;
+        }
+
+        /**
+         * 문서 번호와 가중치 배열 - 새 배열로 바꿀 때 두 배열이 함께 바뀌도록 한 참조로 묶는다
+         */
+        record Entries(int[] docs, float[] weights) {
+        }
+    }
+}
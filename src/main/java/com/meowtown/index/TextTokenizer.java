@@ -0,0 +1,65 @@
+package com.meowtown.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저
+ * 한글 음절 구간은 2-gram(한 글자 단어는 1-gram)으로, 영문/숫자 구간은 단어 단위로 자르고 그 외 문자는 구분자로 본다.
+ * 조사/어미가 붙은 한글 단어도 어간의 2-gram이 일치하므로 형태소 분석 없이 부분 검색이 가능하다.
+ */
+public final class TextTokenizer {
+
+    private TextTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            char c = normalized.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(normalized.charAt(i))) {
+                    i++;
+                }
+                addHangulGrams(normalized, start, i, tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(normalized.charAt(i)) && !isHangul(normalized.charAt(i))) {
+                    i++;
+                }
+                tokens.add(normalized.substring(start, i));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addHangulGrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 2 <= end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    /**
+     * 한글 음절/자모 여부
+     */
+    public static boolean isHangul(char c) {
+        return (c >= '\uAC00' && c <= '\uD7A3')
+                || (c >= '\u1100' && c <= '\u11FF')
+                || (c >= '\u3130' && c <= '\u318F');
+    }
+}
@@ -0,0 +1,82 @@
+package com.meowtown.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * 서버 성능에 맞춰 비용을 정한 PasswordEncoder 생성
+ * 시작 시 해시 한 번이 목표 시간(targetMillis)을 넘지 않는 가장 높은 비용을 측정해 고른다.
+ * 저장된 해시는 {bcrypt}/{argon2} 접두어로 구분하고, 접두어가 없는 기존 BCrypt 해시도 검증할 수 있다.
+ * 선택된 알고리즘/비용보다 약한 해시는 upgradeEncoding이 true가 되어 로그인 시 다시 해시된다.
+ */
+@Slf4j
+public final class CalibratedPasswordEncoders {
+
+    private static final int MIN_BCRYPT_STRENGTH = 10;
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+    // OWASP 권장 최소값: 19 MiB 메모리, 2회 반복, 병렬도 1
+    private static final int ARGON2_MEMORY_KIB = 19 * 1024;
+    private static final int MIN_ARGON2_ITERATIONS = 2;
+    private static final int MAX_ARGON2_ITERATIONS = 10;
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private CalibratedPasswordEncoders() {
+    }
+
+    /**
+     * @param algorithm    bcrypt 또는 argon2 (새로 저장하는 해시에 사용)
+     * @param targetMillis 해시 한 번의 목표 시간
+     */
+    public static PasswordEncoder create(String algorithm, long targetMillis) {
+        boolean argon2 = "argon2".equalsIgnoreCase(algorithm);
+
+        int bcryptStrength = argon2 ? MIN_BCRYPT_STRENGTH
+                : calibrate(MIN_BCRYPT_STRENGTH, MAX_BCRYPT_STRENGTH, targetMillis, BCryptPasswordEncoder::new);
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        int argon2Iterations = !argon2 ? MIN_ARGON2_ITERATIONS
+                : calibrate(MIN_ARGON2_ITERATIONS, MAX_ARGON2_ITERATIONS, targetMillis, CalibratedPasswordEncoders::argon2);
+        PasswordEncoder argon2Encoder = argon2(argon2Iterations);
+
+        String idForEncode = argon2 ? "argon2" : "bcrypt";
+        log.info("비밀번호 해시 설정: algorithm={}, bcryptStrength={}, argon2Iterations={}, targetMillis={}",
+                idForEncode, bcryptStrength, argon2Iterations, targetMillis);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idForEncode,
+                Map.of("bcrypt", bcrypt, "argon2", argon2Encoder));
+        // 접두어 없이 저장된 기존 BCrypt 해시
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    private static PasswordEncoder argon2(int iterations) {
+        return new Argon2PasswordEncoder(16, 32, 1, ARGON2_MEMORY_KIB, iterations);
+    }
+
+    /**
+     * 목표 시간 안에 들어오는 가장 높은 비용 (최소 비용이 목표를 넘어도 최소 비용은 사용)
+     */
+    private static int calibrate(int min, int max, long targetMillis, IntFunction<PasswordEncoder> encoderFactory) {
+        // JIT 예열
+        encoderFactory.apply(min).encode(SAMPLE_PASSWORD);
+
+        int chosen = min;
+        for (int cost = min; cost <= max; cost++) {
+            PasswordEncoder encoder = encoderFactory.apply(cost);
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            if (elapsedMillis > targetMillis) {
+                break;
+            }
+            chosen = cost;
+        }
+        return chosen;
+    }
+}
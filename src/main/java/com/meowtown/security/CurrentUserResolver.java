@@ -0,0 +1,41 @@
+package com.meowtown.security;
+
+import com.meowtown.service.UserPrincipalCache;
+import com.meowtown.util.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 현재 요청의 로그인 사용자 조회 (요청 범위)
+ * JWT subject(사용자 ID)를 크기 제한 캐시(UserPrincipalCache)로 사용자 UUID에 매핑하고, 캐시에 없을 때만
+ * username unique 인덱스로 한 번 조회한다. 결과는 요청 안에서 재사용되므로 여러 번 호출해도 조회는 한 번이다.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentUserResolver {
+
+    private final UserPrincipalCache userPrincipalCache;
+
+    // null이면 아직 조회하지 않음
+    private Optional<UserPrincipalCache.UserPrincipal> resolved;
+
+    /**
+     * 로그인 사용자 - 익명 요청이거나 토큰의 사용자가 더 이상 없으면 빈 값
+     */
+    public Optional<UserPrincipalCache.UserPrincipal> currentUser() {
+        if (resolved == null) {
+            String username = JwtUtil.getCurrentUserId();
+            resolved = username != null ? userPrincipalCache.findByUsername(username) : Optional.empty();
+        }
+        return resolved;
+    }
+
+    public Optional<UUID> currentUserId() {
+        return currentUser().map(UserPrincipalCache.UserPrincipal::id);
+    }
+}
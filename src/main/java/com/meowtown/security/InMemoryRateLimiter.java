@@ -0,0 +1,50 @@
+package com.meowtown.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드별 요청 한도 (GCRA - 토큰 버킷과 같은 한도를 버킷당 long 하나로 표현)
+ * 버킷 상태는 "이론적 도착 시각(TAT)" 하나이고 CAS로만 갱신하므로 잠금이 없다.
+ * TAT가 현재 시각보다 과거인 버킷은 가득 찬 상태와 같으므로 주기적으로 제거해도 한도가 바뀌지 않는다.
+ * 정책마다 요청 간격이 다르므로 버킷은 정책 이름과 키 조합별로 둔다.
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimiter implements RateLimiter {
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        long interval = policy.emissionIntervalNanos();
+        long burst = interval * policy.requests();
+        AtomicLong bucket = buckets.computeIfAbsent(policy.name() + ":" + key, k -> new AtomicLong(System.nanoTime()));
+        while (true) {
+            long now = System.nanoTime();
+            long tat = bucket.get();
+            long newTat = (tat - now < 0 ? now : tat) + interval;
+            long wait = newTat - burst - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 가득 찬(유휴) 버킷 제거 - 제거 직전에 갱신된 요청 1건은 한도 계산에서 빠질 수 있다
+     */
+    @Scheduled(fixedDelay = 60, timeUnit = TimeUnit.SECONDS)
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.get() - now < 0);
+    }
+}
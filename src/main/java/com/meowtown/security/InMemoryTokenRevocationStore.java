@@ -0,0 +1,50 @@
+package com.meowtown.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드용 폐기 토큰 저장소 (jti -> 만료 시각)
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.revocation.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    @Override
+    public void revoke(String tokenId, long expiresAtMillis) {
+        revoked.put(tokenId, expiresAtMillis);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    @Override
+    public void forEachActive(Consumer<String> action) {
+        long now = System.currentTimeMillis();
+        revoked.forEach((tokenId, expiresAt) -> {
+            if (expiresAt > now) {
+                action.accept(tokenId);
+            }
+        });
+    }
+
+    /**
+     * 만료된 토큰 제거 - 만료된 토큰은 서명 검증 단계에서 이미 거부된다
+     */
+    @Scheduled(fixedDelay = 60, timeUnit = TimeUnit.SECONDS)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+}
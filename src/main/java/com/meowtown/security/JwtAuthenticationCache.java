@@ -0,0 +1,85 @@
+package com.meowtown.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.meowtown.util.TokenDigests;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 JWT의 인증 정보 캐시
+ * 토큰 원문 대신 SHA-256 digest를 키로 쓰고, 항목은 설정된 TTL과 토큰 만료(exp) 중 이른 시각에 만료된다.
+ * 같은 토큰으로 들어오는 요청은 서명 검증/클레임 파싱 없이 인증 정보를 재사용한다.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private static final String METRIC_NAME = "jwt.authentication";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, JwtTokenProvider.AuthenticatedToken> cache;
+
+    public JwtAuthenticationCache(JwtTokenProvider jwtTokenProvider,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${jwt.auth-cache.max-size:10000}") long maxSize,
+                                  @Value("${jwt.auth-cache.ttl:300}") long ttlSeconds) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(TimeUnit.SECONDS.toNanos(ttlSeconds)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, METRIC_NAME);
+    }
+
+    /**
+     * 캐시된 인증 정보 반환, 없으면 토큰을 검증해 캐시에 저장
+     * 검증 실패 시 JwtTokenProvider와 같은 UnauthorizedException을 던지며 캐시에는 남기지 않는다.
+     * 폐기 여부는 캐시하지 않으므로 호출하는 쪽에서 tokenId로 확인한다.
+     */
+    public JwtTokenProvider.AuthenticatedToken authenticate(String token) {
+        return cache.get(TokenDigests.sha256(token), key -> jwtTokenProvider.authenticate(token));
+    }
+
+    /**
+     * 토큰의 캐시 항목 제거
+     */
+    public void invalidate(String token) {
+        cache.invalidate(TokenDigests.sha256(token));
+    }
+
+    /**
+     * 항목별 만료 - min(TTL, 토큰 만료까지 남은 시간)
+     */
+    private static final class TokenExpiry implements Expiry<String, JwtTokenProvider.AuthenticatedToken> {
+
+        private final long ttlNanos;
+
+        TokenExpiry(long ttlNanos) {
+            this.ttlNanos = ttlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, JwtTokenProvider.AuthenticatedToken value, long currentTime) {
+            long untilExpiry = TimeUnit.MILLISECONDS.toNanos(value.expiresAtMillis() - System.currentTimeMillis());
+            return Math.max(0, Math.min(ttlNanos, untilExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtTokenProvider.AuthenticatedToken value,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtTokenProvider.AuthenticatedToken value,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.meowtown.security;
 
+import com.meowtown.common.ErrorCode;
+import com.meowtown.exception.UnauthorizedException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,7 +21,8 @@ import java.io.IOException;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final TokenRevocationService tokenRevocationService;
     
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String BEARER_PREFIX = "Bearer ";
@@ -33,13 +36,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         if (StringUtils.hasText(jwt)) {
             try {
-                if (jwtTokenProvider.validateToken(jwt)) {
-                    Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.debug("Security Context에 '{}' 인증 정보를 저장했습니다.", authentication.getName());
-                } else {
-                    log.debug("유효하지 않은 JWT 토큰입니다.");
+                // 검증은 캐시 미스일 때만 수행되며, 유효하지 않은 토큰은 예외로 처리된다
+                JwtTokenProvider.AuthenticatedToken verified = jwtAuthenticationCache.authenticate(jwt);
+                if (tokenRevocationService.isRevoked(verified.tokenId())) {
+                    throw new UnauthorizedException(ErrorCode.AUTH_TOKEN_INVALID, "폐기된 JWT 토큰");
                 }
+                Authentication authentication = verified.authentication();
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                log.debug("Security Context에 '{}' 인증 정보를 저장했습니다.", authentication.getName());
             } catch (Exception e) {
                 log.error("JWT 토큰 처리 중 오류가 발생했습니다: {}", e.getMessage());
                 SecurityContextHolder.clearContext();
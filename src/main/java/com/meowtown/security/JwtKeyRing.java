@@ -0,0 +1,205 @@
+package com.meowtown.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JWT 서명/검증 키 관리
+ * HMAC(기본값)은 jwt.secret 하나로 서명과 검증을 모두 하고, EDDSA(Ed25519)/ES256은 키 쌍을 만들어
+ * kid 헤더와 함께 서명한다. 비대칭 모드에서는 jwt.key-rotation-interval마다 새 키로 교체하고,
+ * 이전 키는 마지막으로 서명한 토큰이 만료될 때까지 검증용으로 남겨 두므로 교체해도 로그아웃되지 않는다.
+ * 공개 키는 /.well-known/jwks.json으로 공개되며, jwt.jwks-uri가 설정된 노드는 모르는 kid를
+ * 해당 JWKS에서 받아 kid별로 캐시한다(비밀 키 없이 검증만 하는 노드).
+ * 비대칭 키는 노드 메모리에서만 만들어지고 저장되지 않는다. 재시작하면 이전 access token은 검증되지 않으며
+ * (리프레시 토큰으로 재발급), 서명하는 노드는 하나여야 하고 나머지는 jwks-uri로 검증만 한다.
+ */
+@Component
+@Slf4j
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    public enum Mode { HMAC, EDDSA, ES256 }
+
+    // 존재하지 않는 kid로 원격 JWKS를 반복 조회하지 않도록 최소 간격을 둔다
+    private static final long REMOTE_REFRESH_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final Mode mode;
+    private final Key hmacKey;
+    private final SignatureAlgorithm signatureAlgorithm;
+    private final long tokenValidityInMilliseconds;
+    private final String jwksUri;
+    private final RestClient jwksClient;
+    // 원격 JWKS 조회는 한 번에 하나만 - 조회 중에 들어온 모르는 kid는 기다리지 않고 거절한다
+    private final ReentrantLock remoteRefreshLock = new ReentrantLock();
+
+    private final Map<String, SigningKey> localKeys = new ConcurrentHashMap<>();
+    private final Map<String, PublicKey> remoteKeys = new ConcurrentHashMap<>();
+    private volatile SigningKey current;
+    private volatile long remoteFetchedAt;
+
+    public JwtKeyRing(@Value("${jwt.algorithm:HMAC}") Mode mode,
+                      @Value("${jwt.secret}") String secret,
+                      @Value("${jwt.expiration}") long tokenValidityInSeconds,
+                      @Value("${jwt.jwks-uri:}") String jwksUri,
+                      @Value("${jwt.jwks-timeout:2}") int jwksTimeoutSeconds) {
+        this.mode = mode;
+        this.hmacKey = mode == Mode.HMAC ? Keys.hmacShaKeyFor(secret.getBytes()) : null;
+        this.signatureAlgorithm = switch (mode) {
+            case HMAC -> null;
+            case EDDSA -> Jwts.SIG.EdDSA;
+            case ES256 -> Jwts.SIG.ES256;
+        };
+        this.tokenValidityInMilliseconds = tokenValidityInSeconds * 1000;
+        this.jwksUri = jwksUri;
+        // 조회는 요청 스레드에서 일어나므로 응답 없는 JWKS가 요청을 오래 붙잡지 않게 시간 제한을 둔다
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(jwksTimeoutSeconds * 1000);
+        requestFactory.setReadTimeout(jwksTimeoutSeconds * 1000);
+        this.jwksClient = RestClient.builder().requestFactory(requestFactory).build();
+        if (mode == Mode.HMAC) {
+            current = new SigningKey(null, hmacKey, null, 0);
+        } else {
+            rotate();
+        }
+    }
+
+    /**
+     * 새 서명 키로 교체하고 더 이상 유효한 토큰이 없는 이전 키를 제거 (HMAC 모드에서는 아무것도 하지 않음)
+     */
+    @Scheduled(fixedDelayString = "${jwt.key-rotation-interval:86400}",
+            initialDelayString = "${jwt.key-rotation-interval:86400}",
+            timeUnit = TimeUnit.SECONDS)
+    public synchronized void rotate() {
+        if (mode == Mode.HMAC) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        SigningKey previous = current;
+        if (previous != null) {
+            localKeys.put(previous.kid(), previous.retire(now));
+        }
+        localKeys.values().removeIf(key -> key.retiredAt() > 0
+                && key.retiredAt() + tokenValidityInMilliseconds < now);
+
+        // EdDSA 기본 키 쌍은 Ed448이므로 곡선을 Ed25519로 지정한다
+        KeyPair keyPair = mode == Mode.EDDSA
+                ? Jwks.CRV.Ed25519.keyPair().build()
+                : signatureAlgorithm.keyPair().build();
+        SigningKey next = new SigningKey(UUID.randomUUID().toString(), keyPair.getPrivate(), keyPair.getPublic(), 0);
+        localKeys.put(next.kid(), next);
+        current = next;
+        log.info("JWT 서명 키를 교체했습니다. mode={}, kid={}, 보관 중인 키={}", mode, next.kid(), localKeys.size());
+    }
+
+    /**
+     * 토큰 서명에 사용할 현재 키 (HMAC 모드에서는 kid 없음)
+     */
+    public SigningKey current() {
+        return current;
+    }
+
+    public SignatureAlgorithm signatureAlgorithm() {
+        return signatureAlgorithm;
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        if (mode == Mode.HMAC) {
+            return hmacKey;
+        }
+        String kid = header.getKeyId();
+        if (kid == null) {
+            throw new UnsupportedJwtException("kid가 없는 JWT 토큰");
+        }
+        SigningKey local = localKeys.get(kid);
+        if (local != null) {
+            return local.publicKey();
+        }
+        PublicKey remote = remoteKeys.get(kid);
+        if (remote == null && StringUtils.hasText(jwksUri)) {
+            refreshRemoteKeys();
+            remote = remoteKeys.get(kid);
+        }
+        if (remote == null) {
+            throw new UnsupportedJwtException("알 수 없는 kid: " + kid);
+        }
+        return remote;
+    }
+
+    /**
+     * 현재 검증 가능한 공개 키 목록 (JWKS 형식)
+     */
+    public Map<String, Object> jwks() {
+        List<Map<String, ?>> keys = new ArrayList<>();
+        for (SigningKey key : localKeys.values()) {
+            keys.add(Jwks.builder()
+                    .key(key.publicKey())
+                    .id(key.kid())
+                    .algorithm(signatureAlgorithm.getId())
+                    .publicKeyUse("sig")
+                    .build());
+        }
+        return Map.of("keys", keys);
+    }
+
+    private void refreshRemoteKeys() {
+        if (System.currentTimeMillis() - remoteFetchedAt < REMOTE_REFRESH_INTERVAL_MILLIS
+                || !remoteRefreshLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            if (now - remoteFetchedAt < REMOTE_REFRESH_INTERVAL_MILLIS) {
+                return;
+            }
+            remoteFetchedAt = now;
+            String body = jwksClient.get().uri(jwksUri).retrieve().body(String.class);
+            JwkSet jwkSet = Jwks.setParser().build().parse(body);
+            for (Jwk<?> jwk : jwkSet.getKeys()) {
+                if (jwk instanceof PublicJwk<?> publicJwk && jwk.getId() != null) {
+                    remoteKeys.put(jwk.getId(), publicJwk.toKey());
+                }
+            }
+            log.info("원격 JWKS를 갱신했습니다. uri={}, 키={}", jwksUri, remoteKeys.size());
+        } catch (Exception e) {
+            log.warn("원격 JWKS 조회에 실패했습니다. uri={}: {}", jwksUri, e.getMessage());
+        } finally {
+            remoteRefreshLock.unlock();
+        }
+    }
+
+    /**
+     * 서명 키 - retiredAt은 교체된 시각(현재 키는 0)
+     */
+    public record SigningKey(String kid, Key signingKey, PublicKey publicKey, long retiredAt) {
+
+        SigningKey retire(long at) {
+            return new SigningKey(kid, signingKey, publicKey, at);
+        }
+    }
+}
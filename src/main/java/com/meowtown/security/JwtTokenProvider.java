@@ -3,7 +3,6 @@ package com.meowtown.security;
 import com.meowtown.common.ErrorCode;
 import com.meowtown.exception.UnauthorizedException;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -13,90 +12,135 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.security.PrivateKey;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+/**
+ * JWT 발급/검증 - 서명/검증 키는 JwtKeyRing이 관리한다
+ * 파서는 생성 시 한 번만 만들어 모든 요청이 공유한다(JwtParser는 불변이라 스레드 안전).
+ * auth 클레임 문자열("ROLE_USER" 등)별 권한 목록은 불변 리스트로 한 번만 만들어 재사용한다.
+ */
 @Component
 @Slf4j
 public class JwtTokenProvider {
     
-    private final SecretKey secretKey;
+    private final JwtKeyRing keyRing;
     private final long tokenValidityInMilliseconds;
+    private final JwtParser jwtParser;
+    private final Map<String, List<GrantedAuthority>> authoritySets = new ConcurrentHashMap<>();
     
     private static final String AUTHORITIES_KEY = "auth";
+    // 서명된 토큰에서만 들어오지만 비정상적으로 다양한 조합이 들어와도 무한히 커지지 않도록 제한
+    private static final int MAX_INTERNED_AUTHORITY_SETS = 256;
     
-    public JwtTokenProvider(@Value("${jwt.secret}") String secret,
+    public JwtTokenProvider(JwtKeyRing keyRing,
                            @Value("${jwt.expiration}") long tokenValidityInSeconds) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.keyRing = keyRing;
         this.tokenValidityInMilliseconds = tokenValidityInSeconds * 1000;
+        // 검증 키는 토큰의 kid 헤더로 키 링에서 찾는다
+        this.jwtParser = Jwts.parser()
+                .keyLocator(keyRing)
+                .build();
     }
     
     public String createToken(Authentication authentication) {
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
-        
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + this.tokenValidityInMilliseconds);
-        
-        return Jwts.builder()
-                .subject(authentication.getName())
-                .claim(AUTHORITIES_KEY, authorities)
-                .issuedAt(now)
-                .expiration(validity)
-                .signWith(secretKey)
-                .compact();
+        return createToken(authentication.getName(), authorities);
     }
     
     public String createToken(String username, String authorities) {
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + this.tokenValidityInMilliseconds);
+        // JwtBuilder는 상태를 가지므로 토큰마다 새로 만들고, 키만 공유한다
+        long now = System.currentTimeMillis();
+        JwtKeyRing.SigningKey key = keyRing.current();
         
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .claim(AUTHORITIES_KEY, authorities)
-                .issuedAt(now)
-                .expiration(validity)
-                .signWith(secretKey)
-                .compact();
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + this.tokenValidityInMilliseconds));
+        if (key.kid() == null) {
+            builder.signWith(key.signingKey());
+        } else {
+            builder.header().keyId(key.kid()).and()
+                    .signWith((PrivateKey) key.signingKey(), keyRing.signatureAlgorithm());
+        }
+        return builder.compact();
+    }
+    
+    /**
+     * access token 유효 시간(초)
+     */
+    public long getTokenValiditySeconds() {
+        return tokenValidityInMilliseconds / 1000;
     }
     
     public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
-        
-        UserDetails principal = new CustomUserDetails(claims.getSubject(), "", authorities);
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        return authenticate(token).authentication();
+    }
+    
+    /**
+     * 토큰을 한 번만 파싱/검증해 인증 정보와 만료 시각을 함께 반환
+     * 검증에 실패하면 validateToken과 같은 UnauthorizedException을 던진다.
+     */
+    public AuthenticatedToken authenticate(String token) {
+        VerifiedToken verified = verify(token);
+        UserDetails principal = new CustomUserDetails(verified.subject(), "", verified.authorities());
+        Authentication authentication =
+                new UsernamePasswordAuthenticationToken(principal, token, verified.authorities());
+        return new AuthenticatedToken(authentication, verified.tokenId(), verified.expiresAtMillis());
+    }
+    
+    /**
+     * 서명 검증과 함께 subject, 권한 목록, 만료 시각을 한 번에 추출
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = parseClaims(token);
+        Object authorities = claims.get(AUTHORITIES_KEY);
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.getId(),
+                authoritiesOf(authorities != null ? authorities.toString() : ""),
+                claims.getExpiration().getTime());
+    }
+    
+    private List<GrantedAuthority> authoritiesOf(String claim) {
+        List<GrantedAuthority> interned = authoritySets.get(claim);
+        if (interned != null) {
+            return interned;
+        }
+        List<GrantedAuthority> authorities = Arrays.stream(claim.split(","))
+                .filter(a -> !a.isBlank())
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+        if (authoritySets.size() < MAX_INTERNED_AUTHORITY_SETS) {
+            List<GrantedAuthority> existing = authoritySets.putIfAbsent(claim, authorities);
+            return existing != null ? existing : authorities;
+        }
+        return authorities;
     }
     
     public String getUsernameFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
     
     public boolean validateToken(String token) {
+        parseClaims(token);
+        return true;
+    }
+    
+    private Claims parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
+            return jwtParser.parseSignedClaims(token).getPayload();
+        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT signature.");
             throw new UnauthorizedException(ErrorCode.AUTH_TOKEN_INVALID, "잘못된 JWT 서명");
         } catch (ExpiredJwtException e) {
@@ -110,4 +154,17 @@ public class JwtTokenProvider {
             throw new UnauthorizedException(ErrorCode.AUTH_TOKEN_INVALID, "JWT 토큰이 잘못되었습니다");
         }
     }
+    
+    /**
+     * 검증된 토큰의 subject, jti, 권한 목록(공유 불변 리스트), 만료 시각(epoch millis)
+     */
+    public record VerifiedToken(String subject, String tokenId, List<GrantedAuthority> authorities,
+                                long expiresAtMillis) {
+    }
+    
+    /**
+     * 검증된 토큰의 인증 정보, jti(폐기 확인용), 만료 시각(epoch millis)
+     */
+    public record AuthenticatedToken(Authentication authentication, String tokenId, long expiresAtMillis) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.meowtown.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meowtown.common.ErrorCode;
+import com.meowtown.common.ErrorResponse;
+import com.meowtown.util.JwtUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한도 필터 (rate-limit.general / rate-limit.upload)
+ * JwtAuthenticationFilter 다음에 실행되어 로그인 사용자는 사용자 ID로, 그 외에는 클라이언트 IP로 한도를 센다.
+ * 프록시 뒤에서는 server.forward-headers-strategy로 getRemoteAddr()가 원래 클라이언트 주소가 되어야 한다
+ * (설정하지 않으면 모든 익명 요청이 프록시 주소 하나의 한도를 나눠 쓴다).
+ * multipart 요청은 업로드 한도를 따로 적용한다. 한도를 넘으면 429와 Retry-After를 반환한다.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final RateLimitPolicy generalPolicy;
+    private final RateLimitPolicy uploadPolicy;
+
+    public RateLimitFilter(RateLimiter rateLimiter,
+                           ObjectMapper objectMapper,
+                           @Value("${rate-limit.general.requests:100}") int generalRequests,
+                           @Value("${rate-limit.general.per:60}") long generalPerSeconds,
+                           @Value("${rate-limit.upload.requests:20}") int uploadRequests,
+                           @Value("${rate-limit.upload.per:60}") long uploadPerSeconds) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.generalPolicy = new RateLimitPolicy("general", generalRequests, Duration.ofSeconds(generalPerSeconds));
+        this.uploadPolicy = new RateLimitPolicy("upload", uploadRequests, Duration.ofSeconds(uploadPerSeconds));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // CORS preflight와 헬스 체크/메트릭 수집은 한도에서 제외
+        return HttpMethod.OPTIONS.matches(request.getMethod())
+                || request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String userId = JwtUtil.getCurrentUserId();
+        String key = userId != null ? "user:" + userId : "ip:" + request.getRemoteAddr();
+        RateLimitPolicy policy = isUpload(request) ? uploadPolicy : generalPolicy;
+
+        long waitNanos = rateLimiter.tryAcquire(key, policy);
+        if (waitNanos > 0) {
+            log.debug("요청 한도 초과: key={}, policy={}", key, policy.name());
+            reject(response, waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private static boolean isUpload(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.regionMatches(true, 0, "multipart/", 0, "multipart/".length());
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                ErrorCode.RATE_LIMIT_EXCEEDED.getCode(),
+                ErrorCode.RATE_LIMIT_EXCEEDED.getMessage(),
+                retryAfterSeconds + "초 후 다시 시도해주세요."));
+    }
+}
@@ -0,0 +1,16 @@
+package com.meowtown.security;
+
+import java.time.Duration;
+
+/**
+ * 요청 한도 - period 동안 최대 requests건 (연속 요청도 requests건까지 허용)
+ */
+public record RateLimitPolicy(String name, int requests, Duration period) {
+
+    /**
+     * 요청 1건이 소비하는 시간 간격(ns)
+     */
+    public long emissionIntervalNanos() {
+        return period.toNanos() / requests;
+    }
+}
@@ -0,0 +1,15 @@
+package com.meowtown.security;
+
+/**
+ * 키(사용자/IP)별 요청 한도 확인
+ * rate-limit.store 설정으로 memory(노드별, 기본값) 또는 redis(전체 노드 공유) 구현을 선택한다.
+ */
+public interface RateLimiter {
+
+    /**
+     * 요청 1건 소비 시도
+     *
+     * @return 0이면 허용, 아니면 다음 요청이 허용될 때까지 남은 시간(ns)
+     */
+    long tryAcquire(String key, RateLimitPolicy policy);
+}
@@ -0,0 +1,37 @@
+package com.meowtown.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 노드가 공유하는 요청 한도 - 확인과 갱신을 Lua 스크립트 한 번(원자적)으로 처리
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "redis")
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "rate:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<Long> script =
+            RedisScript.of(new ClassPathResource("scripts/rate-limit.lua"), Long.class);
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        long intervalMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(policy.emissionIntervalNanos()));
+        Long waitMillis = redisTemplate.execute(script,
+                List.of(KEY_PREFIX + policy.name() + ":" + key),
+                Long.toString(intervalMillis), Integer.toString(policy.requests()));
+        return waitMillis == null ? 0 : TimeUnit.MILLISECONDS.toNanos(waitMillis);
+    }
+}
@@ -0,0 +1,69 @@
+package com.meowtown.security;
+
+import com.meowtown.index.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 토큰 폐기(로그아웃) 처리
+ * 폐기된 jti를 Bloom filter에도 기록해, 폐기되지 않은 토큰은 저장소 조회 없이 통과시킨다.
+ * Bloom filter는 항목을 지울 수 없으므로 주기적으로 저장소의 만료 전 항목만으로 다시 만든다.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    private final TokenRevocationStore store;
+    private final long expectedRevocations;
+    private volatile BloomFilter bloomFilter;
+
+    public TokenRevocationService(TokenRevocationStore store,
+                                  @Value("${jwt.revocation.expected-revocations:100000}") long expectedRevocations) {
+        this.store = store;
+        this.expectedRevocations = expectedRevocations;
+        this.bloomFilter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+        store.subscribe(this::onRevokedElsewhere);
+        rebuild();
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return store.isRevoked(tokenId);
+    }
+
+    public synchronized void revoke(String tokenId, long expiresAtMillis) {
+        if (tokenId == null) {
+            return;
+        }
+        store.revoke(tokenId, expiresAtMillis);
+        bloomFilter.put(tokenId);
+    }
+
+    private synchronized void onRevokedElsewhere(String tokenId) {
+        bloomFilter.put(tokenId);
+    }
+
+    /**
+     * 만료된 항목을 털어내도록 Bloom filter 재구성 - 재구성 중 들어온 폐기도 잠금으로 함께 반영된다
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:600}",
+            initialDelayString = "${jwt.revocation.rebuild-interval:600}",
+            timeUnit = TimeUnit.SECONDS)
+    public synchronized void rebuild() {
+        LongAdder active = new LongAdder();
+        store.forEachActive(tokenId -> active.increment());
+        BloomFilter next = new BloomFilter(Math.max(expectedRevocations, active.sum() * 2), FALSE_POSITIVE_RATE);
+        store.forEachActive(next::put);
+        bloomFilter = next;
+        log.debug("토큰 폐기 Bloom filter를 재구성했습니다. 폐기 토큰={}", active.sum());
+    }
+}
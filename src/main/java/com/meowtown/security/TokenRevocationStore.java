@@ -0,0 +1,26 @@
+package com.meowtown.security;
+
+import java.util.function.Consumer;
+
+/**
+ * 폐기된 토큰(jti) 저장소
+ * 항목은 토큰 만료 시각까지만 보관되며, 만료 후에는 저장소가 스스로 제거한다.
+ * jwt.revocation.store 설정으로 memory(기본값) 또는 redis 구현을 선택한다.
+ */
+public interface TokenRevocationStore {
+
+    void revoke(String tokenId, long expiresAtMillis);
+
+    boolean isRevoked(String tokenId);
+
+    /**
+     * 아직 만료되지 않은 폐기 토큰 전체 순회 (Bloom filter 재구성용)
+     */
+    void forEachActive(Consumer<String> action);
+
+    /**
+     * 다른 노드에서 폐기된 토큰 알림 구독 - 단일 노드 저장소는 알릴 것이 없다
+     */
+    default void subscribe(Consumer<String> listener) {
+    }
+}
@@ -1,65 +1,120 @@
 package com.meowtown.service;
 
+import com.meowtown.common.ErrorCode;
 import com.meowtown.entity.User;
+import com.meowtown.exception.MeowtownException;
 import com.meowtown.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * 로그인/회원가입
+ * 사용자 조회는 UserPrincipalCache를 거치고, 비밀번호 해시/검증은 PasswordHashingService에서 비동기로 수행한다.
+ * 로그인 시 저장된 해시가 현재 알고리즘/비용보다 약하면 새 해시로 교체한다.
+ * 해시 이후 단계는 authTaskExecutor에서 실행되므로, 반환된 future에 이어 붙인 작업(토큰 발급 등)도 해시 스레드를 쓰지 않는다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-@Transactional
 public class AuthService {
-    
+
     private final UserRepository userRepository;
-    
+    private final UserPrincipalCache userPrincipalCache;
+    private final PasswordHashingService passwordHashingService;
+    private final ThreadPoolTaskExecutor authTaskExecutor;
+
+    public AuthService(UserRepository userRepository,
+                       UserPrincipalCache userPrincipalCache,
+                       PasswordHashingService passwordHashingService,
+                       @Qualifier("authTaskExecutor") ThreadPoolTaskExecutor authTaskExecutor) {
+        this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
+        this.passwordHashingService = passwordHashingService;
+        this.authTaskExecutor = authTaskExecutor;
+    }
+
     /**
      * 회원가입
      */
-    public User register(String userId, String email, String displayName, String password) {
+    public CompletableFuture<UserPrincipalCache.UserPrincipal> register(String userId, String email,
+                                                                       String displayName, String password) {
         // 중복 체크
-        if (userRepository.existsByUsername(userId)) {
-            throw new IllegalArgumentException("이미 존재하는 사용자 ID입니다.");
+        if (userPrincipalCache.existsByUsername(userId)) {
+            throw new MeowtownException(ErrorCode.USER_USERNAME_EXISTS, "이미 존재하는 사용자 ID입니다.");
         }
-        
-        if (userRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("이미 존재하는 이메일입니다.");
+
+        if (userPrincipalCache.existsByEmail(email)) {
+            throw new MeowtownException(ErrorCode.USER_EMAIL_EXISTS, "이미 존재하는 이메일입니다.");
         }
-        
-        // 사용자 생성
-        User user = User.builder()
-                .username(userId)
-                .email(email)
-                .displayName(displayName)
-                .passwordHash(password) // 간단히 평문 저장
-                .build();
-        
-        return userRepository.save(user);
+
+        return passwordHashingService.encode(password)
+                .thenApplyAsync(passwordHash -> {
+                    // 사용자 생성
+                    User user = User.builder()
+                            .username(userId)
+                            .email(email)
+                            .displayName(displayName)
+                            .passwordHash(passwordHash)
+                            .build();
+                    try {
+                        return userPrincipalCache.put(userRepository.save(user));
+                    } catch (DataIntegrityViolationException e) {
+                        // 캐시 확인 이후 다른 요청/노드에서 같은 ID나 이메일로 가입한 경우
+                        userPrincipalCache.invalidate(userId, email);
+                        throw new MeowtownException(ErrorCode.USER_USERNAME_EXISTS, "이미 존재하는 사용자 ID 또는 이메일입니다.", e);
+                    }
+                }, authTaskExecutor);
     }
-    
+
     /**
-     * 로그인
+     * 로그인 - 사용자가 없거나 비밀번호가 틀리면 빈 값
      */
-    public Optional<User> login(String userId, String password) {
-        Optional<User> userOpt = userRepository.findByUsername(userId);
-        
-        if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            // 비밀번호 확인 (간단히 평문 비교)
-            if (password.equals(user.getPasswordHash())) {
-                return Optional.of(user);
-            }
+    public CompletableFuture<Optional<UserPrincipalCache.UserPrincipal>> login(String userId, String password) {
+        Optional<UserPrincipalCache.UserPrincipal> principal = userPrincipalCache.findByUsername(userId);
+        if (principal.isEmpty()) {
+            // 없는 사용자도 해시 검증 비용을 치러 응답 시간 차이로 ID 존재 여부가 드러나지 않게 한다
+            return passwordHashingService.verifyUnknownUser(password)
+                    .thenApplyAsync(verification -> Optional.empty(), authTaskExecutor);
+        }
+
+        return passwordHashingService.verify(password, principal.get().passwordHash())
+                .thenApplyAsync(verification -> {
+                    if (!verification.matches()) {
+                        return Optional.empty();
+                    }
+                    if (verification.upgradedHash() != null) {
+                        return Optional.of(upgradePasswordHash(principal.get(), verification.upgradedHash()));
+                    }
+                    return principal;
+                }, authTaskExecutor);
+    }
+
+    private UserPrincipalCache.UserPrincipal upgradePasswordHash(UserPrincipalCache.UserPrincipal principal,
+                                                                 String upgradedHash) {
+        try {
+            return userRepository.findById(principal.id())
+                    .map(user -> {
+                        user.setPasswordHash(upgradedHash);
+                        log.info("사용자 {}의 비밀번호 해시를 현재 설정으로 갱신했습니다.", user.getUsername());
+                        return userPrincipalCache.put(userRepository.save(user));
+                    })
+                    .orElse(principal);
+        } catch (RuntimeException e) {
+            // 해시 갱신 실패는 로그인 성공에 영향을 주지 않는다 - 다음 로그인에서 다시 시도
+            log.warn("비밀번호 해시 갱신에 실패했습니다. user={}: {}", principal.username(), e.getMessage());
+            return principal;
         }
-        
-        return Optional.empty();
     }
-    
+
     /**
      * 사용자 조회
      */
-    public Optional<User> findByUserId(String userId) {
-        return userRepository.findByUsername(userId);
+    public Optional<UserPrincipalCache.UserPrincipal> findByUserId(String userId) {
+        return userPrincipalCache.findByUsername(userId);
     }
-}
\ No newline at end of file
+}
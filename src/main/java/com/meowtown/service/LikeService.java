@@ -0,0 +1,93 @@
+package com.meowtown.service;
+
+import com.meowtown.entity.enums.LikeTargetType;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고양이/게시글 좋아요 카운터
+ * 대상별 카운트는 LongAdder(셀 단위로 분산된 카운터)로, 사용자별 좋아요 여부는 사용자 ordinal의
+ * 압축 비트맵(RoaringBitmap)으로 관리한다. 잠금은 비트맵 변경(누르기/취소 판정)에만 걸고, 카운트는
+ * 잠금 밖에서 LongAdder로 증감한다. 비트맵 변경 1건마다 증감 1건이 정확히 대응하므로 동시에 토글해도
+ * 갱신이 유실되지 않는다. 다만 증감이 끝나기 전의 조회에는 진행 중인 토글이 아직 반영되지 않을 수 있다.
+ */
+@Service
+public class LikeService {
+
+    private final UserOrdinalRegistry userOrdinalRegistry;
+    private final Map<LikeTargetType, ConcurrentHashMap<String, LikeCounter>> counters = new EnumMap<>(LikeTargetType.class);
+
+    public LikeService(UserOrdinalRegistry userOrdinalRegistry) {
+        this.userOrdinalRegistry = userOrdinalRegistry;
+        for (LikeTargetType type : LikeTargetType.values()) {
+            counters.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 초기 좋아요 수 설정 (목업/외부 데이터 적재용, 사용자 정보 없음)
+     */
+    public void seed(LikeTargetType type, String targetId, long likes) {
+        counter(type, targetId).count.add(likes);
+    }
+
+    /**
+     * 좋아요 토글
+     */
+    public LikeState toggle(LikeTargetType type, String targetId, String userId) {
+        LikeCounter counter = counter(type, targetId);
+        int userOrdinal = userOrdinalRegistry.ordinalOf(userId);
+        boolean isLiked;
+        synchronized (counter) {
+            isLiked = counter.users.checkedAdd(userOrdinal);
+            if (!isLiked) {
+                counter.users.remove(userOrdinal);
+            }
+        }
+        if (isLiked) {
+            counter.count.increment();
+        } else {
+            counter.count.decrement();
+        }
+        return new LikeState(isLiked, counter.count.sum());
+    }
+
+    public long count(LikeTargetType type, String targetId) {
+        LikeCounter counter = counters.get(type).get(targetId);
+        return counter != null ? counter.count.sum() : 0;
+    }
+
+    public boolean isLikedBy(LikeTargetType type, String targetId, String userId) {
+        if (userId == null) {
+            return false;
+        }
+        int userOrdinal = userOrdinalRegistry.findOrdinal(userId);
+        if (userOrdinal < 0) {
+            return false;
+        }
+        LikeCounter counter = counters.get(type).get(targetId);
+        if (counter == null) {
+            return false;
+        }
+        synchronized (counter) {
+            return counter.users.contains(userOrdinal);
+        }
+    }
+
+    private LikeCounter counter(LikeTargetType type, String targetId) {
+        return counters.get(type).computeIfAbsent(targetId, k -> new LikeCounter());
+    }
+
+    public record LikeState(boolean isLiked, long likes) {
+    }
+
+    private static final class LikeCounter {
+        private final LongAdder count = new LongAdder();
+        private final RoaringBitmap users = new RoaringBitmap();
+    }
+}
@@ -0,0 +1,101 @@
+package com.meowtown.service;
+
+import com.meowtown.common.ErrorCode;
+import com.meowtown.exception.MeowtownException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시/검증
+ * 모든 해시 작업은 passwordHashExecutor(고정 크기 풀, 제한된 대기열)에서만 실행된다.
+ * 대기열이 가득 차면 작업을 쌓지 않고 RATE_LIMIT_EXCEEDED(429)로 바로 거절해, 가입/로그인이 몰려도
+ * 요청 스레드나 메모리가 해시 대기에 묶이지 않는다.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor passwordHashExecutor;
+    // 없는 사용자 로그인에 검증할 해시 - 현재 알고리즘/비용으로 만들어 실제 사용자 검증과 걸리는 시간을 맞춘다
+    private final String dummyHash;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue", passwordHashExecutor,
+                        executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", passwordHashExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * 비밀번호 검증 - 일치하고 저장된 해시의 알고리즘/비용이 현재 설정보다 약하면 새 해시도 함께 반환
+     */
+    public CompletableFuture<Verification> verify(String rawPassword, String passwordHash) {
+        return submit(() -> {
+            boolean matches = matchesTimer.record(() -> passwordEncoder.matches(rawPassword, passwordHash));
+            if (!matches) {
+                return new Verification(false, null);
+            }
+            String upgradedHash = passwordEncoder.upgradeEncoding(passwordHash)
+                    ? encodeTimer.record(() -> passwordEncoder.encode(rawPassword))
+                    : null;
+            return new Verification(true, upgradedHash);
+        });
+    }
+
+    /**
+     * 없는 사용자의 비밀번호 검증 - 항상 불일치지만 실제 검증과 같은 비용을 들여 응답 시간으로 사용자 존재 여부가 드러나지 않게 한다
+     */
+    public CompletableFuture<Verification> verifyUnknownUser(String rawPassword) {
+        return submit(() -> {
+            matchesTimer.record(() -> passwordEncoder.matches(rawPassword, dummyHash));
+            return new Verification(false, null);
+        });
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, passwordHashExecutor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new MeowtownException(ErrorCode.RATE_LIMIT_EXCEEDED, "요청이 많아 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+
+    /**
+     * 검증 결과 - upgradedHash가 있으면 저장된 해시를 교체해야 한다
+     */
+    public record Verification(boolean matches, String upgradedHash) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.meowtown.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meowtown.common.ErrorCode;
+import com.meowtown.entity.RefreshToken;
+import com.meowtown.exception.UnauthorizedException;
+import com.meowtown.repository.RefreshTokenRepository;
+import com.meowtown.util.TokenDigests;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리프레시 토큰 발급/회전
+ * 토큰은 임의의 32바이트(불투명 문자열)이고 DB에는 SHA-256 digest만 저장한다. 사용할 때마다 새 토큰으로
+ * 교체되며, 이미 사용된 토큰이 다시 들어오면 탈취로 보고 같은 family의 토큰을 모두 폐기한다.
+ * digest 조회는 DB 앞의 크기 제한 캐시에서 먼저 처리되고, 사용 처리는 조건부 UPDATE 한 번으로 원자적으로 수행된다.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration refreshTokenValidity;
+    private final Cache<String, StoredToken> tokensByHash;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${jwt.refresh-expiration:1209600}") long refreshTokenValidityInSeconds,
+                               @Value("${jwt.refresh-cache.max-size:10000}") long cacheMaxSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenValidity = Duration.ofSeconds(refreshTokenValidityInSeconds);
+        this.tokensByHash = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(refreshTokenValidity)
+                .build();
+    }
+
+    /**
+     * 로그인 시 새 family의 리프레시 토큰 발급
+     */
+    @Transactional
+    public String issue(String username) {
+        return issue(username, UUID.randomUUID());
+    }
+
+    /**
+     * 리프레시 토큰을 사용 처리하고 같은 family의 새 토큰 발급
+     * 재사용이 감지되면 family를 폐기한 뒤 예외를 던지며, 폐기는 롤백되지 않는다.
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public Rotation rotate(String rawToken) {
+        String tokenHash = TokenDigests.sha256(rawToken);
+        StoredToken token = find(tokenHash);
+        // 회전된 토큰은 다시 조회될 일이 없으므로(재사용 시도는 DB에서 확인) 캐시에서 뺀다
+        tokensByHash.invalidate(tokenHash);
+
+        LocalDateTime now = LocalDateTime.now();
+        if (token.expiresAt().isBefore(now)) {
+            throw new UnauthorizedException(ErrorCode.AUTH_TOKEN_EXPIRED, "만료된 리프레시 토큰");
+        }
+        if (refreshTokenRepository.markUsed(token.id(), now) == 0) {
+            refreshTokenRepository.revokeFamily(token.familyId());
+            log.warn("리프레시 토큰 재사용이 감지되어 토큰 family를 폐기했습니다. user={}, family={}",
+                    token.username(), token.familyId());
+            throw new UnauthorizedException(ErrorCode.AUTH_TOKEN_INVALID, "이미 사용되었거나 폐기된 리프레시 토큰");
+        }
+        return new Rotation(token.username(), issue(token.username(), token.familyId()));
+    }
+
+    /**
+     * 로그아웃 - 토큰이 속한 family 전체 폐기
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        String tokenHash = TokenDigests.sha256(rawToken);
+        StoredToken token = find(tokenHash);
+        tokensByHash.invalidate(tokenHash);
+        refreshTokenRepository.revokeFamily(token.familyId());
+    }
+
+    @Scheduled(fixedDelay = 1, initialDelay = 1, timeUnit = TimeUnit.HOURS)
+    @Transactional
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 리프레시 토큰 {}개를 삭제했습니다.", deleted);
+        }
+    }
+
+    private String issue(String username, UUID familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        String tokenHash = TokenDigests.sha256(rawToken);
+
+        RefreshToken saved = refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(tokenHash)
+                .familyId(familyId)
+                .username(username)
+                .expiresAt(LocalDateTime.now().plus(refreshTokenValidity))
+                .build());
+        tokensByHash.put(tokenHash, StoredToken.of(saved));
+        return rawToken;
+    }
+
+    private StoredToken find(String tokenHash) {
+        StoredToken token = tokensByHash.get(tokenHash, hash ->
+                refreshTokenRepository.findByTokenHash(hash).map(StoredToken::of).orElse(null));
+        if (token == null) {
+            throw new UnauthorizedException(ErrorCode.AUTH_TOKEN_INVALID, "알 수 없는 리프레시 토큰");
+        }
+        return token;
+    }
+
+    /**
+     * 회전 결과 - 새 access token 발급에 쓸 사용자와 새 리프레시 토큰
+     */
+    public record Rotation(String username, String refreshToken) {
+    }
+
+    /**
+     * 캐시에 보관하는 변하지 않는 토큰 정보 (사용/폐기 여부는 DB의 조건부 UPDATE로 확인)
+     */
+    private record StoredToken(UUID id, UUID familyId, String username, LocalDateTime expiresAt) {
+
+        static StoredToken of(RefreshToken token) {
+            return new StoredToken(token.getId(), token.getFamilyId(), token.getUsername(), token.getExpiresAt());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.meowtown.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자 ID(JWT subject)를 0부터 증가하는 정수 ordinal로 매핑
+ * 비트맵 기반 인덱스에서 문자열 대신 정수로 사용자를 표현하기 위해 사용한다.
+ */
+@Component
+public class UserOrdinalRegistry {
+
+    private final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    /**
+     * 사용자 ordinal 조회, 없으면 새로 발급
+     */
+    public int ordinalOf(String userId) {
+        return ordinals.computeIfAbsent(userId, k -> sequence.getAndIncrement());
+    }
+
+    /**
+     * 이미 발급된 ordinal 조회 (없으면 -1)
+     */
+    public int findOrdinal(String userId) {
+        Integer ordinal = ordinals.get(userId);
+        return ordinal != null ? ordinal : -1;
+    }
+}
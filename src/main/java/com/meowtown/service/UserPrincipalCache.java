@@ -0,0 +1,121 @@
+package com.meowtown.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.meowtown.entity.Role;
+import com.meowtown.entity.User;
+import com.meowtown.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * 로그인/회원가입용 사용자 조회 캐시
+ * findByUsername/existsByUsername/existsByEmail 결과를 보관하고, 회원가입 시 저장된 사용자로 바로 갱신한다.
+ * "없음" 결과는 다른 노드에서 방금 가입한 사용자를 오래 거절하지 않도록 짧은 TTL(negative-ttl)만 보관한다.
+ * 중복 가입은 DB unique 제약이 최종적으로 막는다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Optional<UserPrincipal>> principalsByUsername;
+    private final Cache<String, Boolean> emailExists;
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${auth.user-cache.max-size:10000}") long maxSize,
+                              @Value("${auth.user-cache.ttl:600}") long ttlSeconds,
+                              @Value("${auth.user-cache.negative-ttl:5}") long negativeTtlSeconds) {
+        this.userRepository = userRepository;
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        Duration negativeTtl = Duration.ofSeconds(negativeTtlSeconds);
+        this.principalsByUsername = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(expiry(Optional<UserPrincipal>::isPresent, ttl, negativeTtl))
+                .recordStats()
+                .build();
+        this.emailExists = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(expiry(Boolean::booleanValue, ttl, negativeTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principalsByUsername, "user.principal");
+        CaffeineCacheMetrics.monitor(meterRegistry, emailExists, "user.email");
+    }
+
+    /**
+     * 값이 있으면 ttl, 없으면 negativeTtl 동안 보관 (put으로 덮어쓰면 새 값 기준으로 다시 계산)
+     */
+    private static <V> Expiry<String, V> expiry(Predicate<V> found, Duration ttl, Duration negativeTtl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, V value, long currentTime) {
+                return (found.test(value) ? ttl : negativeTtl).toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, V value, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, value, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String key, V value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    public Optional<UserPrincipal> findByUsername(String username) {
+        return principalsByUsername.get(username, k -> userRepository.findByUsername(k).map(UserPrincipal::of));
+    }
+
+    public boolean existsByUsername(String username) {
+        return findByUsername(username).isPresent();
+    }
+
+    public boolean existsByEmail(String email) {
+        return emailExists.get(email, userRepository::existsByEmail);
+    }
+
+    /**
+     * 저장된 사용자로 캐시 갱신 (write-through)
+     */
+    public UserPrincipal put(User user) {
+        UserPrincipal principal = UserPrincipal.of(user);
+        principalsByUsername.put(user.getUsername(), Optional.of(principal));
+        emailExists.put(user.getEmail(), true);
+        return principal;
+    }
+
+    public void invalidate(String username, String email) {
+        principalsByUsername.invalidate(username);
+        emailExists.invalidate(email);
+    }
+
+    /**
+     * 인증에 필요한 사용자 정보 (엔티티 대신 불변 값으로 캐시)
+     */
+    public record UserPrincipal(UUID id, String username, String email, String displayName,
+                                String passwordHash, Role role) {
+
+        static UserPrincipal of(User user) {
+            return new UserPrincipal(user.getId(), user.getUsername(), user.getEmail(), user.getDisplayName(),
+                    user.getPasswordHash(), user.getRole());
+        }
+
+        /**
+         * JWT auth 클레임 값
+         */
+        public String authorities() {
+            return "ROLE_" + role.name();
+        }
+    }
+}
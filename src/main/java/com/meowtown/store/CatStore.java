@@ -0,0 +1,452 @@
+package com.meowtown.store;
+
+import com.meowtown.dto.CatClusterView;
+import com.meowtown.dto.CatView;
+import com.meowtown.dto.ReporterView;
+import com.meowtown.entity.enums.Gender;
+import com.meowtown.entity.enums.LikeTargetType;
+import com.meowtown.index.GeoClusterIndex;
+import com.meowtown.index.GeoGridIndex;
+import com.meowtown.index.TextIndex;
+import com.meowtown.service.LikeService;
+import com.meowtown.util.ETags;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 고양이 데이터 컬럼형 저장소
+ * 자주 읽는 필드는 기본형 배열/BitSet에 보관하고, 응답 시점에만 CatView로 변환한다.
+ * 각 고양이는 등록 순서대로 증가하는 ordinal로 식별된다. 좋아요 수/여부는 LikeService가 관리한다.
+ * 응답 내용이 바뀔 때마다 version이 증가하며 목록 ETag에 사용된다.
+ */
+@Component
+public class CatStore {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final String CURSOR_PREFIX = "c:";
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LikeService likeService;
+
+    // id 인덱스 (잠금 없이 조회)
+    private final Map<String, Integer> ordinalById = new ConcurrentHashMap<>();
+
+    // 핫 필드
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private double[] lats = new double[INITIAL_CAPACITY];
+    private double[] lngs = new double[INITIAL_CAPACITY];
+    private int[] comments = new int[INITIAL_CAPACITY];
+    private int[] reportCounts = new int[INITIAL_CAPACITY];
+    private byte[] genderCodes = new byte[INITIAL_CAPACITY];
+    private final BitSet neutered = new BitSet();
+
+    // 성별은 Gender ordinal로 인코딩, 성별별 ordinal 비트셋
+    private static final Gender[] GENDERS = Gender.values();
+    private final BitSet[] genderBits = new BitSet[GENDERS.length];
+
+    // 콜드 필드
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] images = new String[INITIAL_CAPACITY];
+    private String[] locations = new String[INITIAL_CAPACITY];
+    private String[] lastSeens = new String[INITIAL_CAPACITY];
+    private String[] descriptions = new String[INITIAL_CAPACITY];
+    private String[] estimatedAges = new String[INITIAL_CAPACITY];
+    private String[] reporterNames = new String[INITIAL_CAPACITY];
+    private String[] reporterAvatars = new String[INITIAL_CAPACITY];
+    @SuppressWarnings("unchecked")
+    private List<String>[] characteristics = (List<String>[]) new List<?>[INITIAL_CAPACITY];
+
+    private int size;
+
+    // 약 1km 격자 단위 공간 인덱스
+    private final GeoGridIndex<Integer> geoIndex = new GeoGridIndex<>(0.01);
+    // 좌표가 있는 고양이
+    private final BitSet located = new BitSet();
+    private int locatedCount;
+
+    // 지도 클러스터 (줌 16까지, 타일당 4x4칸 = 약 64px 클러스터)
+    private final GeoClusterIndex<Integer> clusterIndex = new GeoClusterIndex<>(16, 2);
+
+    // 이름/설명/위치/특징 전문 검색 색인
+    private final TextIndex textIndex = new TextIndex();
+
+    private final AtomicLong version = new AtomicLong(ETags.initialVersion());
+
+    public CatStore(LikeService likeService) {
+        this.likeService = likeService;
+        for (int code = 0; code < GENDERS.length; code++) {
+            genderBits[code] = new BitSet();
+        }
+        seedMockCats();
+    }
+
+    private void seedMockCats() {
+        // 목업 고양이 데이터 생성 (최신순 조회 시 cat-1이 먼저 오도록 역순 등록)
+        for (int i = 5; i >= 1; i--) {
+            Map<String, Object> cat = new HashMap<>();
+            cat.put("id", "cat-" + i);
+            cat.put("name", "냥이" + i);
+            cat.put("image", "https://picsum.photos/300/200?random=" + i);
+            cat.put("location", "서울시 강남구");
+            cat.put("lastSeen", (i == 1) ? "방금 전" : i + "시간 전");
+            cat.put("description", "귀여운 고양이입니다 🐱");
+            cat.put("characteristics", Arrays.asList("친근함", "활발함", "귀여움"));
+            cat.put("likes", (int)(Math.random() * 20) + 1);
+            cat.put("comments", (int)(Math.random() * 10) + 1);
+            cat.put("isNeutered", Math.random() > 0.5);
+            cat.put("estimatedAge", "1-2년");
+            cat.put("gender", new String[]{"male", "female", "unknown"}[(int)(Math.random() * 3)]);
+            cat.put("lat", 37.4979 + (Math.random() * 0.1));
+            cat.put("lng", 127.0276 + (Math.random() * 0.1));
+            cat.put("reportCount", (int)(Math.random() * 5) + 1);
+
+            add(cat, "사용자" + i);
+        }
+    }
+
+    /**
+     * 고양이 추가 후 ordinal 반환
+     * 요청 본문과 같은 키 구조의 Map을 받아 알려진 필드만 컬럼에 저장한다.
+     */
+    public int add(Map<String, Object> data, String reporterName) {
+        lock.writeLock().lock();
+        try {
+            String id = (String) data.get("id");
+            if (ordinalById.containsKey(id)) {
+                throw new IllegalArgumentException("이미 존재하는 고양이 ID입니다: " + id);
+            }
+            Gender gender = parseGender(toText(data.get("gender")));
+            ensureCapacity(size + 1);
+
+            int ordinal = size;
+            ids[ordinal] = id;
+            lats[ordinal] = toDouble(data.get("lat"));
+            lngs[ordinal] = toDouble(data.get("lng"));
+            comments[ordinal] = toInt(data.get("comments"), 0);
+            reportCounts[ordinal] = toInt(data.get("reportCount"), 1);
+            genderCodes[ordinal] = (byte) gender.ordinal();
+            genderBits[gender.ordinal()].set(ordinal);
+            neutered.set(ordinal, Boolean.TRUE.equals(data.get("isNeutered"))
+                    || "true".equals(data.get("isNeutered")));
+
+            names[ordinal] = toText(data.get("name"));
+            images[ordinal] = toText(data.get("image"));
+            locations[ordinal] = toText(data.get("location"));
+            lastSeens[ordinal] = toText(data.get("lastSeen"));
+            descriptions[ordinal] = toText(data.get("description"));
+            estimatedAges[ordinal] = toText(data.get("estimatedAge"));
+            reporterNames[ordinal] = reporterName;
+            reporterAvatars[ordinal] = null;
+            characteristics[ordinal] = data.get("characteristics") instanceof List<?> list
+                    ? list.stream().map(String::valueOf).toList() : null;
+
+            size++;
+            ordinalById.put(id, ordinal);
+            likeService.seed(LikeTargetType.CAT, id, toInt(data.get("likes"), 0));
+
+            if (!Double.isNaN(lats[ordinal]) && !Double.isNaN(lngs[ordinal])) {
+                geoIndex.add(lats[ordinal], lngs[ordinal], ordinal);
+                clusterIndex.add(lats[ordinal], lngs[ordinal], ordinal);
+                located.set(ordinal);
+                locatedCount++;
+            }
+            indexText(ordinal);
+            version.incrementAndGet();
+            return ordinal;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * id로 ordinal 조회 (없으면 -1)
+     */
+    public int ordinalOf(String id) {
+        Integer ordinal = ordinalById.get(id);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * 목록 응답 버전 - 고양이 추가/좋아요 변경 시 증가
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 저장소 밖에서 관리되는 응답 필드(좋아요 수 등)가 바뀌었음을 알림
+     */
+    public void markModified() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * 최신 등록순 페이지 조회
+     * 성별/중성화 조건은 미리 계산된 비트셋에서 다음 후보를 바로 찾는다.
+     * 영역 조건은 영역 안 고양이 수를 격자 셀로 어림해, 적으면 공간 인덱스로 영역 안 ordinal 비트셋을 만들고
+     * (영역 주변 셀만 검사), 많으면 최신순으로 훑으며 좌표를 확인한다(페이지당 약 pageSize * 전체 / 영역 안 개수만 검사).
+     * 어느 쪽이든 검사 수는 sqrt(pageSize * 전체)를 넘지 않는다.
+     */
+    public Page page(Filter filter, String cursor, int pageSize, String viewerId) {
+        lock.readLock().lock();
+        try {
+            int ordinal = cursor == null || cursor.isBlank() ? size - 1 : Math.min(Cursors.decode(CURSOR_PREFIX, cursor), size - 1);
+
+            BitSet genderFilter = null;
+            if (filter.gender() != null) {
+                Gender gender = findGender(filter.gender());
+                if (gender == null) {
+                    return new Page(List.of(), null);
+                }
+                genderFilter = genderBits[gender.ordinal()];
+            }
+            double[] bbox = filter.bbox();
+            BitSet areaFilter = null;
+            double[] scanBox = null;
+            if (bbox != null) {
+                // bbox = [minLng, minLat, maxLng, maxLat]
+                int estimate = geoIndex.countWithin(bbox[1], bbox[0], bbox[3], bbox[2]);
+                if ((long) estimate * estimate >= (long) pageSize * locatedCount) {
+                    areaFilter = located;
+                    scanBox = bbox;
+                } else {
+                    areaFilter = new BitSet(size);
+                    geoIndex.forEachWithin(bbox[1], bbox[0], bbox[3], bbox[2], areaFilter::set);
+                }
+            }
+
+            List<CatView> items = new ArrayList<>(Math.min(pageSize, Math.max(ordinal + 1, 0)));
+            while (ordinal >= 0 && items.size() < pageSize) {
+                ordinal = previousMatch(ordinal, genderFilter, areaFilter, scanBox, filter.isNeutered());
+                if (ordinal < 0) {
+                    break;
+                }
+                items.add(viewOf(ordinal, viewerId));
+                ordinal--;
+            }
+            // 남은 후보가 없으면 빈 다음 페이지를 만들지 않는다 (좌표를 훑는 경우는 비트셋 후보만 확인)
+            boolean hasMore = ordinal >= 0 && previousCandidate(ordinal, genderFilter, areaFilter, filter.isNeutered()) >= 0;
+            return new Page(items, hasMore ? Cursors.encode(CURSOR_PREFIX, ordinal) : null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * from 이하에서 모든 조건을 만족하는 가장 큰 ordinal (없으면 -1) - scanBox가 있으면 비트셋 후보의 좌표도 확인
+     */
+    private int previousMatch(int from, BitSet genderFilter, BitSet areaFilter, double[] scanBox, Boolean isNeutered) {
+        int ordinal = from;
+        while ((ordinal = previousCandidate(ordinal, genderFilter, areaFilter, isNeutered)) >= 0) {
+            if (scanBox == null || (lngs[ordinal] >= scanBox[0] && lats[ordinal] >= scanBox[1]
+                    && lngs[ordinal] <= scanBox[2] && lats[ordinal] <= scanBox[3])) {
+                return ordinal;
+            }
+            ordinal--;
+        }
+        return -1;
+    }
+
+    /**
+     * from 이하에서 비트셋 조건을 만족하는 가장 큰 ordinal (없으면 -1)
+     */
+    private int previousCandidate(int from, BitSet genderFilter, BitSet areaFilter, Boolean isNeutered) {
+        int ordinal = from;
+        while (ordinal >= 0) {
+            int next = genderFilter != null ? genderFilter.previousSetBit(ordinal) : ordinal;
+            if (next >= 0 && areaFilter != null) {
+                next = areaFilter.previousSetBit(next);
+            }
+            if (next >= 0 && isNeutered != null) {
+                next = isNeutered ? neutered.previousSetBit(next) : neutered.previousClearBit(next);
+            }
+            if (next < 0 || next == ordinal) {
+                return next;
+            }
+            ordinal = next;
+        }
+        return -1;
+    }
+
+    /**
+     * ordinal 목록을 응답 목록으로 변환
+     */
+    public List<CatView> views(List<Integer> ordinals, String viewerId) {
+        lock.readLock().lock();
+        try {
+            List<CatView> views = new ArrayList<>(ordinals.size());
+            for (int ordinal : ordinals) {
+                views.add(viewOf(ordinal, viewerId));
+            }
+            return views;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public CatView view(int ordinal, String viewerId) {
+        lock.readLock().lock();
+        try {
+            return viewOf(ordinal, viewerId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 반경(m) 이내 가까운 고양이 ordinal을 거리순으로 조회
+     */
+    public List<Integer> nearest(double lat, double lng, double radiusMeters, int limit) {
+        return geoIndex.nearest(lat, lng, radiusMeters, limit).stream()
+                .map(GeoGridIndex.Neighbor::item)
+                .toList();
+    }
+
+    /**
+     * 지도 영역의 줌 레벨 클러스터 조회 - bbox = [minLng, minLat, maxLng, maxLat]
+     * 대표 고양이는 셀에 가장 최근 등록된 고양이다.
+     */
+    public List<CatClusterView> clusters(double[] bbox, int zoom) {
+        List<GeoClusterIndex.Cluster<Integer>> clusters = clusterIndex.clusters(bbox[0], bbox[1], bbox[2], bbox[3], zoom);
+        lock.readLock().lock();
+        try {
+            List<CatClusterView> views = new ArrayList<>(clusters.size());
+            for (GeoClusterIndex.Cluster<Integer> cluster : clusters) {
+                views.add(new CatClusterView(cluster.lat(), cluster.lng(), cluster.count(), ids[cluster.representative()]));
+            }
+            return views;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전문 검색 - 점수 내림차순 ordinal 목록
+     */
+    public List<Integer> search(String query, int limit) {
+        return textIndex.search(query, limit).stream()
+                .map(TextIndex.Hit::docId)
+                .toList();
+    }
+
+    private void indexText(int ordinal) {
+        textIndex.registerDocument();
+        textIndex.add(ordinal, names[ordinal], 3.0f);
+        textIndex.add(ordinal, locations[ordinal], 1.5f);
+        textIndex.add(ordinal, descriptions[ordinal], 1.0f);
+        if (characteristics[ordinal] != null) {
+            for (String characteristic : characteristics[ordinal]) {
+                textIndex.add(ordinal, characteristic, 2.0f);
+            }
+        }
+    }
+
+    private CatView viewOf(int ordinal, String viewerId) {
+        return new CatView(
+                ids[ordinal],
+                names[ordinal],
+                images[ordinal],
+                locations[ordinal],
+                lastSeens[ordinal],
+                descriptions[ordinal],
+                characteristics[ordinal],
+                new ReporterView(reporterNames[ordinal], reporterAvatars[ordinal]),
+                likeService.count(LikeTargetType.CAT, ids[ordinal]),
+                comments[ordinal],
+                likeService.isLikedBy(LikeTargetType.CAT, ids[ordinal], viewerId),
+                neutered.get(ordinal),
+                estimatedAges[ordinal],
+                GENDERS[genderCodes[ordinal]].getValue(),
+                Double.isNaN(lats[ordinal]) ? null : lats[ordinal],
+                Double.isNaN(lngs[ordinal]) ? null : lngs[ordinal],
+                reportCounts[ordinal]);
+    }
+
+    /**
+     * 요청의 성별 값 - 없으면 unknown, male/female/unknown 외의 값은 거절
+     */
+    private static Gender parseGender(String value) {
+        if (value == null || value.isBlank()) {
+            return Gender.UNKNOWN;
+        }
+        Gender gender = findGender(value.trim());
+        if (gender == null) {
+            throw new IllegalArgumentException("성별은 male, female, unknown 중 하나여야 합니다: " + value);
+        }
+        return gender;
+    }
+
+    private static Gender findGender(String value) {
+        for (Gender gender : GENDERS) {
+            if (gender.getValue().equalsIgnoreCase(value)) {
+                return gender;
+            }
+        }
+        return null;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        lats = Arrays.copyOf(lats, capacity);
+        lngs = Arrays.copyOf(lngs, capacity);
+        comments = Arrays.copyOf(comments, capacity);
+        reportCounts = Arrays.copyOf(reportCounts, capacity);
+        genderCodes = Arrays.copyOf(genderCodes, capacity);
+        names = Arrays.copyOf(names, capacity);
+        images = Arrays.copyOf(images, capacity);
+        locations = Arrays.copyOf(locations, capacity);
+        lastSeens = Arrays.copyOf(lastSeens, capacity);
+        descriptions = Arrays.copyOf(descriptions, capacity);
+        estimatedAges = Arrays.copyOf(estimatedAges, capacity);
+        reporterNames = Arrays.copyOf(reporterNames, capacity);
+        reporterAvatars = Arrays.copyOf(reporterAvatars, capacity);
+        characteristics = Arrays.copyOf(characteristics, capacity);
+    }
+
+    private static String toText(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static double toDouble(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            try {
+                return Double.parseDouble(text);
+            } catch (NumberFormatException e) {
+                return Double.NaN;
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static int toInt(Object value, int defaultValue) {
+        return value instanceof Number number ? number.intValue() : defaultValue;
+    }
+
+    /**
+     * 목록 조회 조건 - null인 항목은 조건에서 제외
+     *
+     * @param bbox [minLng, minLat, maxLng, maxLat]
+     */
+    public record Filter(String gender, Boolean isNeutered, double[] bbox) {
+    }
+
+    public record Page(List<CatView> items, String nextCursor) {
+    }
+}
@@ -0,0 +1,202 @@
+package com.meowtown.store;
+
+import com.meowtown.dto.CommentView;
+import com.meowtown.util.ETags;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 댓글 저장소
+ * 댓글은 parentId로 임의 깊이의 스레드를 이루며, 게시글마다 최상위 댓글 목록과 댓글별 답글 목록을
+ * 추가만 되는 배열로 보관한다. 쓰기는 게시글 단위로 직렬화되고 읽기는 잠금 없이 쓰기와 동시에 수행된다.
+ * id 인덱스로 부모를 바로 찾으므로 답글 추가는 댓글 수와 무관하게 상수 시간이다.
+ * 목록 응답에는 댓글마다 앞쪽 답글 몇 개만 미리 담고, 나머지는 답글 목록 조회로 페이지 단위로 읽는다.
+ */
+@Component
+public class CommentStore {
+
+    private static final String CURSOR_PREFIX = "cm:";
+    // 목록 응답에 미리 담는 답글 수 (더 있으면 replyCount로 알 수 있다)
+    private static final int REPLY_PREVIEW = 3;
+
+    private final Map<String, PostComments> commentsByPost = new ConcurrentHashMap<>();
+    private final Map<String, Node> nodesById = new ConcurrentHashMap<>();
+    private final PostStore postStore;
+    // 댓글이 없는 게시글의 버전 (댓글이 생기면 그 이후 시각에서 출발하는 게시글별 버전으로 바뀐다)
+    private final long emptyVersion = ETags.initialVersion();
+
+    public CommentStore(PostStore postStore) {
+        this.postStore = postStore;
+        seedMockComments();
+    }
+
+    private void seedMockComments() {
+        // 각 게시글에 대한 목업 댓글 생성
+        for (int i = 1; i <= 10; i++) {
+            PostComments post = postComments("post-" + i);
+            int commentCount = (int)(Math.random() * 5) + 1;
+            for (int j = 1; j <= commentCount; j++) {
+                append(post, new Comment("comment-" + i + "-" + j, "post-" + i, "댓글러" + j,
+                        "정보 감사합니다! 저도 그 근처에서 봤어요.", getRandomTime(j + 10), false, null));
+            }
+        }
+    }
+
+    private static String getRandomTime(int offset) {
+        if (offset <= 3) return offset + "시간 전";
+        if (offset <= 10) return "어제";
+        return (offset - 10) + "일 전";
+    }
+
+    /**
+     * 댓글 추가 - parentId가 있으면 같은 게시글의 해당 댓글에 답글로 추가
+     *
+     * @throws IllegalArgumentException 부모 댓글이 없거나 다른 게시글의 댓글인 경우
+     */
+    public CommentView add(String postId, String author, String content, String parentId) {
+        Comment comment = new Comment("comment-" + UUID.randomUUID().toString().substring(0, 8),
+                postId, author, content, "방금 전", false, parentId);
+        return view(append(postComments(postId), comment), 0);
+    }
+
+    /**
+     * 게시글의 댓글 목록 버전 - 댓글이 추가될 때마다 증가
+     */
+    public long version(String postId) {
+        PostComments post = commentsByPost.get(postId);
+        return post != null ? post.version : emptyVersion;
+    }
+
+    /**
+     * 최상위 댓글을 작성순으로 조회 - 각 댓글에는 앞쪽 답글 일부가 포함된다
+     */
+    public Page page(String postId, String cursor, int pageSize) {
+        PostComments post = commentsByPost.get(postId);
+        return post != null ? page(post.roots, cursor, pageSize) : new Page(List.of(), null);
+    }
+
+    /**
+     * 한 댓글의 답글을 작성순으로 조회 (게시글에 해당 댓글이 없으면 빈 값)
+     */
+    public Optional<Page> replies(String postId, String commentId, String cursor, int pageSize) {
+        Node node = nodesById.get(commentId);
+        if (node == null || !node.comment.postId().equals(postId)) {
+            return Optional.empty();
+        }
+        return Optional.of(page(node.replies, cursor, pageSize));
+    }
+
+    private PostComments postComments(String postId) {
+        return commentsByPost.computeIfAbsent(postId, id -> new PostComments());
+    }
+
+    private Node append(PostComments post, Comment comment) {
+        Node node = new Node(comment);
+        synchronized (post) {
+            NodeList siblings = post.roots;
+            if (comment.parentId() != null) {
+                Node parent = nodesById.get(comment.parentId());
+                if (parent == null || !parent.comment.postId().equals(comment.postId())) {
+                    throw new IllegalArgumentException("부모 댓글을 찾을 수 없습니다: " + comment.parentId());
+                }
+                siblings = parent.replies;
+            }
+            nodesById.put(comment.id(), node);
+            siblings.add(node);
+            post.version++;
+        }
+        postStore.commentAdded(comment.postId(), comment.content());
+        return node;
+    }
+
+    private Page page(NodeList list, String cursor, int pageSize) {
+        int count = list.size;
+        Node[] snapshot = list.nodes;
+        int start = cursor == null || cursor.isBlank() ? 0 : Math.max(0, Cursors.decode(CURSOR_PREFIX, cursor));
+
+        int end = (int) Math.min((long) start + pageSize, count);
+        List<CommentView> items = new ArrayList<>(Math.max(end - start, 0));
+        for (int i = start; i < end; i++) {
+            items.add(view(snapshot[i], 1));
+        }
+        return new Page(items, end < count ? Cursors.encode(CURSOR_PREFIX, end) : null);
+    }
+
+    /**
+     * @param previewDepth 답글을 몇 단계까지 미리 담을지 (0이면 replies는 비어 있고 replyCount만 채운다)
+     */
+    private CommentView view(Node node, int previewDepth) {
+        int replyCount = node.replies.size;
+        List<CommentView> replies = List.of();
+        if (previewDepth > 0 && replyCount > 0) {
+            Node[] snapshot = node.replies.nodes;
+            int previewCount = Math.min(replyCount, REPLY_PREVIEW);
+            List<CommentView> preview = new ArrayList<>(previewCount);
+            for (int i = 0; i < previewCount; i++) {
+                preview.add(view(snapshot[i], previewDepth - 1));
+            }
+            replies = preview;
+        }
+        Comment comment = node.comment;
+        return new CommentView(comment.id(), comment.postId(), comment.author(), comment.content(),
+                comment.time(), comment.isOwner(), comment.parentId(), replyCount, replies);
+    }
+
+    public record Page(List<CommentView> items, String nextCursor) {
+    }
+
+    private record Comment(String id, String postId, String author, String content, String time,
+                           boolean isOwner, String parentId) {
+    }
+
+    /**
+     * 게시글 하나의 댓글 세그먼트 - 쓰기는 이 객체로 동기화된다
+     */
+    private static final class PostComments {
+
+        private final NodeList roots = new NodeList();
+        private volatile long version = ETags.initialVersion();
+    }
+
+    private static final class Node {
+
+        private final Comment comment;
+        private final NodeList replies = new NodeList();
+
+        private Node(Comment comment) {
+            this.comment = comment;
+        }
+    }
+
+    /**
+     * 추가만 되는 댓글 목록 - 배열을 먼저 게시하고 size를 나중에 올리므로, size를 먼저 읽으면 잠금 없이 접근할 수 있다
+     */
+    private static final class NodeList {
+
+        private static final Node[] EMPTY = new Node[0];
+
+        private volatile Node[] nodes = EMPTY;
+        private volatile int size;
+
+        /**
+         * PostComments 잠금 안에서만 호출
+         */
+        private void add(Node node) {
+            Node[] current = nodes;
+            int index = size;
+            if (index == current.length) {
+                current = Arrays.copyOf(current, Math.max(4, current.length * 2));
+            }
+            current[index] = node;
+            nodes = current;
+            size = index + 1;
+        }
+    }
+}
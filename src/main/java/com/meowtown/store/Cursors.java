@@ -0,0 +1,31 @@
+package com.meowtown.store;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 페이지네이션용 불투명 cursor 인코딩/디코딩
+ * 내부 위치(seq/ordinal)를 접두어와 함께 base64url로 감싸 클라이언트에 노출한다.
+ */
+final class Cursors {
+
+    private Cursors() {
+    }
+
+    static String encode(String prefix, int position) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((prefix + position).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static int decode(String prefix, String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(prefix)) {
+                throw new IllegalArgumentException("잘못된 cursor 값입니다.");
+            }
+            return Integer.parseInt(decoded.substring(prefix.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 cursor 값입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.meowtown.store;
+
+import com.meowtown.dto.PostView;
+import com.meowtown.entity.enums.LikeTargetType;
+import com.meowtown.index.TextIndex;
+import com.meowtown.service.LikeService;
+import com.meowtown.util.ETags;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커뮤니티 게시글 저장소
+ * 목록과 함께 id 인덱스를 유지해 단건 조회/수정이 게시글 수와 무관하게 상수 시간에 처리된다.
+ * 게시글은 작성 순서(seq)대로 추가만 되는 배열에 보관하고, 최신순 목록은 배열 끝에서부터 읽는다.
+ * 본문/고양이 이름/위치/댓글은 seq를 문서 번호로 하는 역색인에 함께 등록된다.
+ * 댓글 수는 게시글마다 AtomicInteger로 두고 CommentStore가 댓글을 추가할 때 올린다.
+ * 응답 내용이 바뀔 때마다 version이 증가하며 목록 ETag에 사용된다.
+ */
+@Component
+public class PostStore {
+
+    private static final String CURSOR_PREFIX = "p:";
+
+    // 쓰기는 배열을 게시한 뒤 size를 올리므로, 읽는 쪽이 size를 먼저 읽으면 배열에 size개가 모두 들어 있다
+    private volatile Object[] posts = new Object[64];
+    private volatile int size;
+    private final Map<String, Integer> seqById = new ConcurrentHashMap<>();
+    private final TextIndex textIndex = new TextIndex();
+    private final AtomicLong version = new AtomicLong(ETags.initialVersion());
+
+    private final LikeService likeService;
+
+    public PostStore(LikeService likeService) {
+        this.likeService = likeService;
+        seedMockPosts();
+    }
+
+    private void seedMockPosts() {
+        // 목업 커뮤니티 게시글 데이터 생성
+        for (int i = 1; i <= 10; i++) {
+            Map<String, Object> post = new HashMap<>();
+            post.put("id", "post-" + i);
+            post.put("author", "사용자" + i);
+            post.put("content", "안녕하세요! 오늘 " + getRandomLocation() + "에서 귀여운 고양이를 목격했어요! 건강해 보였고 사람을 잘 따르더라구요. 혹시 주인을 찾고 계신 분이 있나요?");
+            post.put("catName", "냥이" + i);
+            post.put("location", getRandomLocation());
+            post.put("time", getRandomTime(i));
+            post.put("type", getRandomType());
+            post.put("isOwner", false);
+
+            append(post);
+            likeService.seed(LikeTargetType.POST, "post-" + i, (int)(Math.random() * 20) + 1);
+        }
+    }
+
+    private static String getRandomLocation() {
+        String[] locations = {"강남역 3번 출구", "홍대입구역 근처", "이태원 공원", "성수동 카페거리", "건대 로데오거리"};
+        return locations[(int)(Math.random() * locations.length)];
+    }
+
+    private static String getRandomTime(int offset) {
+        if (offset <= 3) return offset + "시간 전";
+        if (offset <= 10) return "어제";
+        return (offset - 10) + "일 전";
+    }
+
+    private static String getRandomType() {
+        String[] types = {"sighting", "help", "update"};
+        return types[(int)(Math.random() * types.length)];
+    }
+
+    /**
+     * 새 게시글 추가 (가장 최신 게시글이 됨)
+     */
+    public synchronized void append(Map<String, Object> post) {
+        Object[] current = posts;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        int seq = size;
+        // 게시 전에 교체해 두므로 이후 댓글 수 변경은 이 카운터만 건드린다
+        post.put("comments", new AtomicInteger(post.get("comments") instanceof Number count ? count.intValue() : 0));
+        current[seq] = post;
+        posts = current;
+        size = seq + 1;
+        seqById.put((String) post.get("id"), seq);
+
+        textIndex.registerDocument();
+        textIndex.add(seq, (String) post.get("content"), 1.0f);
+        textIndex.add(seq, (String) post.get("catName"), 3.0f);
+        textIndex.add(seq, (String) post.get("location"), 1.5f);
+        version.incrementAndGet();
+    }
+
+    /**
+     * 목록 응답 버전 - 게시글 추가/댓글 수/좋아요 변경 시 증가
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 게시글 Map 수정이나 좋아요 변경처럼 append 밖에서 응답 내용이 바뀌었음을 알림
+     */
+    public void markModified() {
+        version.incrementAndGet();
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<Map<String, Object>> findById(String postId) {
+        Integer seq = seqById.get(postId);
+        return seq != null ? Optional.of((Map<String, Object>) posts[seq]) : Optional.empty();
+    }
+
+    /**
+     * 댓글 추가 반영 - 댓글 수를 올리고 댓글 내용을 게시글 검색 색인에 추가
+     */
+    @SuppressWarnings("unchecked")
+    public void commentAdded(String postId, String content) {
+        Integer seq = seqById.get(postId);
+        if (seq != null) {
+            ((AtomicInteger) ((Map<String, Object>) posts[seq]).get("comments")).incrementAndGet();
+            textIndex.add(seq, content, 0.5f);
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * 게시글 검색 - 마지막 단어는 접두어로 일치시키고, type이 주어지면 해당 유형만 반환
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> search(String query, String type, int limit) {
+        int total = size;
+        Object[] snapshot = posts;
+        List<TextIndex.Hit> hits = textIndex.search(query, limit, true, seq -> seq < total
+                && (type == null || type.equals(((Map<String, Object>) snapshot[seq]).get("type"))));
+        List<Map<String, Object>> results = new ArrayList<>(hits.size());
+        for (TextIndex.Hit hit : hits) {
+            results.add((Map<String, Object>) snapshot[hit.docId()]);
+        }
+        return results;
+    }
+
+    /**
+     * 최신순 페이지 조회 - cursor가 없으면 가장 최신 게시글부터 시작
+     * 페이지 비용은 전체 게시글 수와 무관하게 size에 비례한다.
+     */
+    @SuppressWarnings("unchecked")
+    public Page page(String cursor, int pageSize) {
+        int total = size;
+        Object[] snapshot = posts;
+        int start = cursor == null || cursor.isBlank() ? total - 1 : Cursors.decode(CURSOR_PREFIX, cursor);
+        if (start >= total) {
+            start = total - 1;
+        }
+
+        List<Map<String, Object>> items = new ArrayList<>(Math.min(pageSize, Math.max(start + 1, 0)));
+        int seq = start;
+        while (seq >= 0 && items.size() < pageSize) {
+            items.add((Map<String, Object>) snapshot[seq]);
+            seq--;
+        }
+        return new Page(items, seq >= 0 ? Cursors.encode(CURSOR_PREFIX, seq) : null);
+    }
+
+    /**
+     * 응답용 게시글 생성 - 좋아요 수와 조회 사용자 기준 좋아요 여부를 덧붙인다
+     */
+    public PostView view(Map<String, Object> post, String viewerId) {
+        String postId = (String) post.get("id");
+        return new PostView(
+                postId,
+                toText(post.get("author")),
+                toText(post.get("content")),
+                toText(post.get("catName")),
+                toText(post.get("location")),
+                toText(post.get("time")),
+                toText(post.get("type")),
+                post.get("comments") instanceof Number comments ? comments.intValue() : 0,
+                Boolean.TRUE.equals(post.get("isOwner")),
+                likeService.count(LikeTargetType.POST, postId),
+                likeService.isLikedBy(LikeTargetType.POST, postId, viewerId));
+    }
+
+    private static String toText(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    public record Page(List<Map<String, Object>> items, String nextCursor) {
+    }
+}
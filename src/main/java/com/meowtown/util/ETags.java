@@ -0,0 +1,73 @@
+package com.meowtown.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 컬렉션 버전 기반 ETag
+ * 컬렉션 내용이 바뀔 때만 증가하는 버전에 요청 조건(커서, 필터, 조회 사용자 등)의 SHA-256 digest(128비트)를 더해
+ * strong ETag를 만든다. 조건이 다른 요청(다른 사용자 포함)이 같은 태그를 받지 않도록 해시 코드가 아닌 digest를 쓴다.
+ * If-None-Match가 일치하면 본문을 만들거나 직렬화하지 않고 304로 끝낸다.
+ */
+public final class ETags {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().getHeaderValue();
+    private static final int DIGEST_BYTES = 16;
+
+    private ETags() {
+    }
+
+    /**
+     * 저장소 버전의 시작 값 - 재시작 전에 발급된 ETag와 겹치지 않도록 시작 시각(ms)에서 출발한다.
+     * 버전은 변경마다 1씩 오르므로 재시작 전 값이 재시작 후 시작 값을 따라잡지 않는 한 같은 태그가 다시 나오지 않는다.
+     */
+    public static long initialVersion() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * @param version 컬렉션 버전 (initialVersion()에서 출발)
+     * @param parts   응답 내용에 영향을 주는 요청 조건 (조회 사용자별로 달라지는 필드가 있으면 사용자 ID 포함)
+     */
+    public static String of(long version, Object... parts) {
+        return "\"" + Long.toString(version, 36) + "-" + digest(parts) + "\"";
+    }
+
+    private static String digest(Object[] parts) {
+        // 각 조건을 길이와 함께 이어 붙여 ("a,b" + "c"와 "a" + "b,c"처럼) 경계가 다른 조합이 같은 입력이 되지 않게 한다
+        StringBuilder canonical = new StringBuilder();
+        for (Object part : parts) {
+            if (part == null) {
+                canonical.append('-');
+            } else {
+                String value = part.toString();
+                canonical.append(value.length()).append(':').append(value);
+            }
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, DIGEST_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * ETag/Cache-Control을 설정하고 클라이언트가 가진 버전이 최신이면 304로 응답 처리
+     * true를 반환하면 컨트롤러는 본문 없이 null을 반환하면 된다.
+     */
+    public static boolean checkNotModified(ServletWebRequest request, String etag) {
+        if (request.getResponse() != null) {
+            // 기본 no-store 대신 재검증 후 재사용할 수 있도록 허용
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return request.checkNotModified(etag);
+    }
+}
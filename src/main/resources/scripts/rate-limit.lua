@@ -0,0 +1,22 @@
+-- GCRA(토큰 버킷과 동일한 한도) 요청 허용 여부
+-- KEYS[1]: 버킷 키, ARGV[1]: 요청 1건당 간격(ms), ARGV[2]: 버킷 크기(연속 허용 요청 수)
+-- 반환값: 0이면 허용, 아니면 다음 요청이 허용될 때까지 남은 시간(ms)
+local interval = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+if tat < now then
+    tat = now
+end
+
+local new_tat = tat + interval
+local allow_at = new_tat - capacity * interval
+if allow_at > now then
+    return allow_at - now
+end
+
+-- 버킷이 다시 가득 차는 시각까지만 보관 (유휴 버킷은 Redis가 만료시킨다)
+redis.call('SET', KEYS[1], new_tat, 'PX', new_tat - now)
+return 0
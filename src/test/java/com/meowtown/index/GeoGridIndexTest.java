@@ -0,0 +1,105 @@
+package com.meowtown.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoGridIndexTest {
+
+    private static final int POINTS = 5_000;
+
+    private final Random random = new Random(42);
+    private final double[] lats = new double[POINTS];
+    private final double[] lngs = new double[POINTS];
+    private final GeoGridIndex<Integer> index = new GeoGridIndex<>(0.01);
+
+    GeoGridIndexTest() {
+        // 서울 부근에 몰린 좌표와 전 세계에 흩어진 좌표를 섞는다
+        for (int i = 0; i < POINTS; i++) {
+            if (i % 10 == 0) {
+                lats[i] = random.nextDouble() * 180 - 90;
+                lngs[i] = random.nextDouble() * 360 - 180;
+            } else {
+                lats[i] = 37.45 + random.nextDouble() * 0.2;
+                lngs[i] = 126.9 + random.nextDouble() * 0.3;
+            }
+            index.add(lats[i], lngs[i], i);
+        }
+    }
+
+    @Test
+    void nearestMatchesBruteForce() {
+        for (int query = 0; query < 50; query++) {
+            double lat = 37.45 + random.nextDouble() * 0.2;
+            double lng = 126.9 + random.nextDouble() * 0.3;
+            double radius = 100 + random.nextDouble() * 5_000;
+            int limit = 1 + random.nextInt(30);
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < POINTS; i++) {
+                if (GeoGridIndex.distanceMeters(lat, lng, lats[i], lngs[i]) <= radius) {
+                    expected.add(i);
+                }
+            }
+            expected.sort(Comparator.comparingDouble(i -> GeoGridIndex.distanceMeters(lat, lng, lats[i], lngs[i])));
+            expected = expected.subList(0, Math.min(limit, expected.size()));
+
+            List<GeoGridIndex.Neighbor<Integer>> actual = index.nearest(lat, lng, radius, limit);
+            assertThat(actual).extracting(GeoGridIndex.Neighbor::item).containsExactlyElementsOf(expected);
+            assertThat(actual).isSortedAccordingTo(Comparator.comparingDouble(GeoGridIndex.Neighbor::distanceMeters));
+        }
+    }
+
+    @Test
+    void forEachWithinMatchesBruteForceAndCountIsUpperBound() {
+        double[][] boxes = {
+                {37.5, 127.0, 37.52, 127.03},
+                {37.0, 126.0, 38.0, 128.0},
+                {-90, -180, 90, 180},
+                {10, 10, 10.5, 10.5},
+        };
+        for (double[] box : boxes) {
+            Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < POINTS; i++) {
+                if (lats[i] >= box[0] && lats[i] <= box[2] && lngs[i] >= box[1] && lngs[i] <= box[3]) {
+                    expected.add(i);
+                }
+            }
+            Set<Integer> actual = new HashSet<>();
+            index.forEachWithin(box[0], box[1], box[2], box[3], actual::add);
+
+            assertThat(actual).isEqualTo(expected);
+            assertThat(index.countWithin(box[0], box[1], box[2], box[3])).isGreaterThanOrEqualTo(expected.size());
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void boxBeyondTheGridIsClampedInsteadOfOverflowing() {
+        assertThat(index.countWithin(Double.NEGATIVE_INFINITY, 0, Double.POSITIVE_INFINITY, 1))
+                .isEqualTo(index.countWithin(-90, 0, 90, 1));
+        assertThat(index.countWithin(-2e7, -2e7, 2e7, 2e7)).isEqualTo(POINTS);
+
+        List<Integer> all = new ArrayList<>();
+        index.forEachWithin(-1e9, -1e9, 1e9, 1e9, all::add);
+        assertThat(all).hasSize(POINTS);
+
+        assertThat(index.countWithin(100, 0, 200, 1)).isZero();
+    }
+
+    @Test
+    void nearestRespectsLimitAndRadius() {
+        assertThat(index.nearest(37.5, 127.0, 1_000, 0)).isEmpty();
+        assertThat(index.nearest(37.5, 127.0, -1, 10)).isEmpty();
+        assertThat(index.nearest(37.5, 127.0, 50_000, 7)).hasSize(7)
+                .allSatisfy(neighbor -> assertThat(neighbor.distanceMeters()).isLessThanOrEqualTo(50_000));
+    }
+}
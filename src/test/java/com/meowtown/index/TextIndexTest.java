@@ -0,0 +1,64 @@
+package com.meowtown.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TextIndexTest {
+
+    @Test
+    void fieldAddedToOlderDocumentMergesIntoItsPosting() {
+        TextIndex index = new TextIndex();
+        String[] texts = {"tabby", "tabby", "calico", "orange"};
+        for (int docId = 0; docId < texts.length; docId++) {
+            index.registerDocument();
+            index.add(docId, texts[docId], 1.0f);
+        }
+        // 나중에 달린 댓글처럼 이전 문서에 필드 추가 - 기존 토큰과 새 토큰
+        index.add(0, "tabby", 0.5f);
+        index.add(0, "calico", 0.5f);
+
+        // 문서 빈도는 2 그대로여야 한다 (게시 항목이 늘면 idf가 작아짐)
+        double idf = Math.log(1.0 + 4.0 / 2.0);
+        List<TextIndex.Hit> tabby = index.search("tabby", 10);
+        assertThat(tabby).extracting(TextIndex.Hit::docId).containsExactly(0, 1);
+        assertThat(tabby.get(0).score()).isCloseTo(1.5 * idf, within(1e-6));
+        assertThat(tabby.get(1).score()).isCloseTo(1.0 * idf, within(1e-6));
+
+        List<TextIndex.Hit> calico = index.search("calico", 10);
+        assertThat(calico).extracting(TextIndex.Hit::docId).containsExactly(2, 0);
+        assertThat(calico.get(1).score()).isCloseTo(0.5 * idf, within(1e-6));
+    }
+
+    @Test
+    void requiresMostQueryTermsAndCountsAllOfThem() {
+        TextIndex index = new TextIndex();
+        StringBuilder query = new StringBuilder();
+        for (int term = 0; term < 63; term++) {
+            query.append("t").append(term).append(' ');
+        }
+        index.registerDocument();
+        index.add(0, query.toString(), 1.0f);
+        index.registerDocument();
+        index.add(1, "t0 t1", 1.0f);
+
+        List<TextIndex.Hit> hits = index.search(query.toString(), 10);
+        assertThat(hits).extracting(TextIndex.Hit::docId).containsExactly(0);
+        assertThat(hits.get(0).matchedTerms()).isEqualTo(63);
+    }
+
+    @Test
+    void hangulTextMatchesByBigrams() {
+        TextIndex index = new TextIndex();
+        index.registerDocument();
+        index.add(0, "친근한 치즈냥이", 1.0f);
+        index.registerDocument();
+        index.add(1, "겁 많은 고등어", 1.0f);
+
+        assertThat(index.search("치즈", 10)).extracting(TextIndex.Hit::docId).containsExactly(0);
+        assertThat(index.search("고등어가", 10)).extracting(TextIndex.Hit::docId).containsExactly(1);
+    }
+}
@@ -0,0 +1,93 @@
+package com.meowtown.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRateLimiterTest {
+
+    private static final RateLimitPolicy GENERAL = new RateLimitPolicy("general", 10, Duration.ofMinutes(1));
+    private static final RateLimitPolicy UPLOAD = new RateLimitPolicy("upload", 2, Duration.ofMinutes(1));
+
+    private final InMemoryRateLimiter limiter = new InMemoryRateLimiter();
+
+    @Test
+    void allowsBurstThenReportsWaitUntilNextSlot() {
+        for (int i = 0; i < GENERAL.requests(); i++) {
+            assertThat(limiter.tryAcquire("ip:1.2.3.4", GENERAL)).isZero();
+        }
+        long wait = limiter.tryAcquire("ip:1.2.3.4", GENERAL);
+        // 다음 요청 1건 분량(6초) 안쪽이어야 한다
+        assertThat(wait).isPositive().isLessThanOrEqualTo(GENERAL.emissionIntervalNanos());
+
+        assertThat(limiter.tryAcquire("ip:5.6.7.8", GENERAL)).isZero();
+    }
+
+    @Test
+    void policiesForTheSameClientDoNotShareABucket() {
+        assertThat(limiter.tryAcquire("user:1", UPLOAD)).isZero();
+        assertThat(limiter.tryAcquire("user:1", UPLOAD)).isZero();
+        assertThat(limiter.tryAcquire("user:1", UPLOAD)).isPositive();
+
+        // 업로드 한도를 다 써도 일반 요청 한도는 그대로
+        for (int i = 0; i < GENERAL.requests(); i++) {
+            assertThat(limiter.tryAcquire("user:1", GENERAL)).isZero();
+        }
+    }
+
+    @Test
+    void concurrentRequestsNeverExceedTheBurst() throws Exception {
+        int threads = 8;
+        int attemptsPerThread = 50;
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (limiter.tryAcquire("ip:9.9.9.9", GENERAL) == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 테스트가 도는 동안 다시 채워질 수 있는 양은 1분당 10건이므로 많아야 1건
+        assertThat(allowed.get()).isBetween(GENERAL.requests(), GENERAL.requests() + 1);
+    }
+
+    @Test
+    void evictsOnlyIdleBuckets() {
+        RateLimitPolicy fast = new RateLimitPolicy("fast", 1_000_000, Duration.ofMillis(1));
+        assertThat(limiter.tryAcquire("ip:1.1.1.1", fast)).isZero();
+        assertThat(limiter.tryAcquire("ip:2.2.2.2", GENERAL)).isZero();
+        limiter.evictIdleBuckets();
+
+        // 일반 한도 버킷은 남아 있어 소비한 1건이 유지된다
+        for (int i = 1; i < GENERAL.requests(); i++) {
+            assertThat(limiter.tryAcquire("ip:2.2.2.2", GENERAL)).isZero();
+        }
+        assertThat(limiter.tryAcquire("ip:2.2.2.2", GENERAL)).isPositive();
+    }
+}
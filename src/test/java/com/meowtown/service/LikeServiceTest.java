@@ -0,0 +1,72 @@
+package com.meowtown.service;
+
+import com.meowtown.entity.enums.LikeTargetType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikeServiceTest {
+
+    private static final int THREADS = 16;
+
+    @Test
+    void toggleCountsEveryLikeAndUnlike() {
+        LikeService likeService = new LikeService(new UserOrdinalRegistry());
+
+        assertThat(likeService.toggle(LikeTargetType.CAT, "cat-1", "user-1")).isEqualTo(new LikeService.LikeState(true, 1));
+        assertThat(likeService.isLikedBy(LikeTargetType.CAT, "cat-1", "user-1")).isTrue();
+        assertThat(likeService.toggle(LikeTargetType.CAT, "cat-1", "user-1")).isEqualTo(new LikeService.LikeState(false, 0));
+        assertThat(likeService.isLikedBy(LikeTargetType.CAT, "cat-1", "user-1")).isFalse();
+        assertThat(likeService.count(LikeTargetType.POST, "cat-1")).isZero();
+    }
+
+    @Test
+    void concurrentTogglesDoNotLoseUpdates() throws Exception {
+        LikeService likeService = new LikeService(new UserOrdinalRegistry());
+        likeService.seed(LikeTargetType.POST, "post-1", 10);
+
+        // 사용자마다 홀수 번 토글하면 최종 상태는 "좋아요", 짝수 번이면 "취소"
+        int users = 200;
+        int togglesPerUser = 5;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int round = 0; round < togglesPerUser; round++) {
+                        for (int u = thread; u < users; u += THREADS) {
+                            likeService.toggle(LikeTargetType.POST, "post-1", "user-" + u);
+                        }
+                        // 다른 스레드가 같은 대상을 토글하는 동안 짝수 번 토글하는 사용자
+                        for (int u = users + thread; u < 2 * users; u += THREADS) {
+                            likeService.toggle(LikeTargetType.POST, "post-1", "user-" + u);
+                            likeService.toggle(LikeTargetType.POST, "post-1", "user-" + u);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(likeService.count(LikeTargetType.POST, "post-1")).isEqualTo(10 + users);
+        for (int u = 0; u < 2 * users; u++) {
+            assertThat(likeService.isLikedBy(LikeTargetType.POST, "post-1", "user-" + u)).isEqualTo(u < users);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.meowtown.store;
+
+import com.meowtown.dto.CatView;
+import com.meowtown.service.LikeService;
+import com.meowtown.service.UserOrdinalRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatStoreTest {
+
+    private static final String[] GENDERS = {"male", "female", "unknown"};
+
+    private final CatStore catStore = new CatStore(new LikeService(new UserOrdinalRegistry()));
+
+    CatStoreTest() {
+        // 목업 5마리 + 서울 부근에 몰린 고양이와 좌표 없는 고양이
+        Random random = new Random(7);
+        for (int i = 0; i < 3_000; i++) {
+            Map<String, Object> cat = new HashMap<>();
+            cat.put("id", "test-" + i);
+            cat.put("name", "테스트" + i);
+            cat.put("gender", GENDERS[random.nextInt(GENDERS.length)]);
+            cat.put("isNeutered", random.nextBoolean());
+            if (i % 50 != 0) {
+                cat.put("lat", 37.4 + random.nextDouble() * 0.3);
+                cat.put("lng", 126.8 + random.nextDouble() * 0.4);
+            }
+            catStore.add(cat, "tester");
+        }
+    }
+
+    @Test
+    void cursorPagesVisitEveryMatchNewestFirstExactlyOnce() {
+        List<CatView> all = pageThrough(new CatStore.Filter(null, null, null), 1_000);
+        assertThat(all).hasSize(3_005);
+        assertThat(all.get(0).id()).isEqualTo("test-2999");
+
+        double[][] boxes = {
+                // 고양이가 몇 마리뿐인 영역 - 격자 인덱스로 후보 비트셋을 만든다
+                {126.95, 37.50, 126.96, 37.51},
+                // 대부분이 들어가는 영역 - 최신순으로 훑으며 좌표를 확인한다
+                {126.0, 37.0, 128.0, 38.0},
+                {-180, -90, 180, 90},
+                {0, 0, 1, 1},
+        };
+        for (String gender : new String[]{null, "male", "female", "unknown"}) {
+            for (Boolean isNeutered : new Boolean[]{null, true, false}) {
+                for (double[] bbox : boxes) {
+                    CatStore.Filter filter = new CatStore.Filter(gender, isNeutered, bbox);
+                    List<CatView> expected = all.stream().filter(matches(filter)).toList();
+                    for (int pageSize : new int[]{1, 7, 50}) {
+                        assertThat(pageThrough(filter, pageSize)).extracting(CatView::id)
+                                .containsExactlyElementsOf(expected.stream().map(CatView::id).toList());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void lastPageHasNoCursorWhenNothingIsLeft() {
+        CatStore.Filter filter = new CatStore.Filter("male", null, null);
+        List<CatView> males = pageThrough(filter, 1_000);
+
+        CatStore.Page exact = catStore.page(filter, null, males.size(), null);
+        assertThat(exact.items()).hasSize(males.size());
+        assertThat(exact.nextCursor()).isNull();
+    }
+
+    @Test
+    void rejectsMalformedCursorAndUnknownGenderOnAdd() {
+        CatStore.Filter filter = new CatStore.Filter(null, null, null);
+        assertThatThrownBy(() -> catStore.page(filter, "not a cursor!", 10, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> catStore.page(filter, Cursors.encode("p:", 3), 10, null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        Map<String, Object> cat = new HashMap<>();
+        cat.put("id", "bad-gender");
+        cat.put("gender", "tom");
+        assertThatThrownBy(() -> catStore.add(cat, "tester")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catStore.ordinalOf("bad-gender")).isEqualTo(-1);
+
+        cat.put("id", "test-0");
+        cat.put("gender", "male");
+        assertThatThrownBy(() -> catStore.add(cat, "tester")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void cursorRoundTrips() {
+        for (int position : new int[]{0, 1, 42, Integer.MAX_VALUE}) {
+            assertThat(Cursors.decode("c:", Cursors.encode("c:", position))).isEqualTo(position);
+        }
+    }
+
+    private List<CatView> pageThrough(CatStore.Filter filter, int pageSize) {
+        List<CatView> items = new ArrayList<>();
+        String cursor = null;
+        do {
+            CatStore.Page page = catStore.page(filter, cursor, pageSize, null);
+            items.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return items;
+    }
+
+    private static Predicate<CatView> matches(CatStore.Filter filter) {
+        return cat -> (filter.gender() == null || filter.gender().equals(cat.gender()))
+                && (filter.isNeutered() == null || filter.isNeutered() == cat.isNeutered())
+                && (filter.bbox() == null || (cat.lat() != null
+                        && cat.lng() >= filter.bbox()[0] && cat.lat() >= filter.bbox()[1]
+                        && cat.lng() <= filter.bbox()[2] && cat.lat() <= filter.bbox()[3]));
+    }
+}